@@ -9,16 +9,20 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.ufrog.easy.exceptions.CommonException;
 import net.ufrog.easy.exceptions.UnauthorizedException;
+import net.ufrog.easy.jpa.monitor.RequestStatements;
 import net.ufrog.easy.utils.ArrayUtil;
 import net.ufrog.easy.utils.FileUtil;
 import net.ufrog.easy.utils.MapUtil;
 import net.ufrog.easy.utils.StringUtil;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
 import org.springframework.web.servlet.i18n.SessionLocaleResolver;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.net.InetAddress;
@@ -29,12 +33,13 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * 应用请求
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-10
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Slf4j
@@ -62,6 +67,16 @@ public class ApplicationRequest {
     @Setter
     private Long userId;
 
+    /** 是否需要主库<br>请求内发生写入后置为真，后续只读事务不再路由到从库 */
+    @Getter
+    @Setter
+    private boolean primaryRequired;
+
+    /** 语句统计<br>仅启用语句监控时记录 */
+    @Getter
+    @Setter
+    private volatile RequestStatements statements;
+
     /**
      * 构造函数
      *
@@ -275,6 +290,28 @@ public class ApplicationRequest {
         httpServletResponse.setStatus(status);
     }
 
+    /**
+     * 判断是否条件请求<br>包含请求头 If-None-Match 或 If-Modified-Since
+     *
+     * @return 判断结果
+     */
+    public boolean isConditional() {
+        if (httpServletRequest == null) return false;
+        return httpServletRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null || httpServletRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * 检查条件请求<br>按请求头 If-None-Match 及 If-Modified-Since 校验，同时设置响应头 ETag 及 Last-Modified，未修改时设置 304 状态
+     *
+     * @param etag 实体标签
+     * @param lastModified 最后修改时间<br>单位：毫秒
+     * @return 是否未修改
+     */
+    public boolean checkNotModified(String etag, long lastModified) {
+        if (httpServletRequest == null || httpServletResponse == null) return false;
+        return new ServletWebRequest(httpServletRequest, httpServletResponse).checkNotModified(etag, lastModified);
+    }
+
     /**
      * 读取当前应用请求
      *
@@ -301,4 +338,43 @@ public class ApplicationRequest {
     public static void setCurrent(ApplicationRequest applicationRequest) {
         CURRENT.set(applicationRequest);
     }
+
+    /**
+     * 传递当前应用请求<br>返回的供应方法在其他线程执行时使用调用线程的应用请求，执行后恢复原应用请求
+     *
+     * @param supplier 供应方法
+     * @return 传递应用请求的供应方法
+     * @param <R> 结果泛型
+     */
+    public static <R> Supplier<R> propagate(Supplier<R> supplier) {
+        ApplicationRequest applicationRequest = CURRENT.get();
+        return () -> {
+            ApplicationRequest previous = CURRENT.get();
+            CURRENT.set(applicationRequest);
+            try {
+                return supplier.get();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 传递当前应用请求<br>返回的流式响应在异步线程输出时使用调用线程的应用请求，输出后恢复原应用请求
+     *
+     * @param body 流式响应
+     * @return 传递应用请求的流式响应
+     */
+    public static StreamingResponseBody propagate(StreamingResponseBody body) {
+        ApplicationRequest applicationRequest = CURRENT.get();
+        return outputStream -> {
+            ApplicationRequest previous = CURRENT.get();
+            CURRENT.set(applicationRequest);
+            try {
+                body.writeTo(outputStream);
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
 }
@@ -13,7 +13,7 @@ import java.util.function.Supplier;
  * 缓存工具
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-10
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Slf4j
@@ -472,6 +472,15 @@ public class CacheUtil {
         cache.clear();
     }
 
+    /**
+     * 是否已初始化
+     *
+     * @return 判断结果
+     */
+    public static boolean isInitialized() {
+        return cache != null;
+    }
+
     /**
      * 初始化
      *
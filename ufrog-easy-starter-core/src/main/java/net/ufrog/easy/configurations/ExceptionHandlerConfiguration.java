@@ -7,6 +7,7 @@ import net.ufrog.easy.contracts.responses.Response;
 import net.ufrog.easy.contracts.responses.ResponseCode;
 import net.ufrog.easy.exceptions.CommonException;
 import net.ufrog.easy.exceptions.DataNotFoundException;
+import net.ufrog.easy.exceptions.InvalidRequestException;
 import net.ufrog.easy.exceptions.ResponseException;
 import net.ufrog.easy.exceptions.UnauthorizedException;
 import org.springframework.core.MethodParameter;
@@ -26,7 +27,7 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
  * 异常处理配置
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-10
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Slf4j
@@ -72,6 +73,13 @@ public class ExceptionHandlerConfiguration implements ResponseBodyAdvice<Respons
         return Response.newInstance(ResponseCode.NOT_FOUND);
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidRequestException.class)
+    public Response handleInvalidRequestException(InvalidRequestException e) {
+        ApplicationRequest.getCurrent().ifPresentOrElse(v -> log(v, e, false), () -> log.warn(e.getMessage()));
+        return Response.newInstance(ResponseCode.BAD_REQUEST);
+    }
+
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     @ExceptionHandler(UnauthorizedException.class)
     public Response handleUnauthorizedException(UnauthorizedException e) {
@@ -1,26 +1,148 @@
 package net.ufrog.easy.configurations;
 
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.SharedCacheMode;
 import lombok.extern.slf4j.Slf4j;
+import net.ufrog.easy.configurations.properties.JpaProperties;
+import net.ufrog.easy.datasource.MonitoredDataSource;
+import net.ufrog.easy.jpa.AsyncServiceExecutor;
+import net.ufrog.easy.jpa.BatchAuditor;
+import net.ufrog.easy.jpa.BulkImporter;
 import net.ufrog.easy.jpa.SequenceAuditorAwareImpl;
+import net.ufrog.easy.jpa.SequenceIDGenerator;
+import net.ufrog.easy.jpa.cache.EasyRegionFactory;
+import net.ufrog.easy.jpa.monitor.StatementMonitor;
+import net.ufrog.easy.utils.ThreadUtil;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * 持久化自动配置
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-12
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Slf4j
 @Configuration
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
+@EnableConfigurationProperties(JpaProperties.class)
 public class JpaAutoConfiguration {
 
+    private static final int DEFAULT_POOL_SIZE      = 10;
+    private static final String DATA_SOURCE         = "dataSource";
+
+    /** 持久化参数 */
+    private final JpaProperties jpaProperties;
+
+    /**
+     * 构造函数
+     *
+     * @param jpaProperties 持久化参数
+     */
+    public JpaAutoConfiguration(JpaProperties jpaProperties) {
+        this.jpaProperties = jpaProperties;
+    }
+
+    @PostConstruct
+    private void init() {
+        SequenceIDGenerator.init(jpaProperties.getId());
+        StatementMonitor.init(jpaProperties.getMonitor());
+    }
+
+    /**
+     * 监控数据源后处理<br>
+     * 只代理名称为 dataSource 的主数据源；代理及路由数据源（如读写分离时的主数据源）跳过，由其自行代理目标数据源，避免同一语句重复统计
+     *
+     * @return 后处理
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "easy.jpa.monitor", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor monitoredDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@Nonnull Object bean, @Nonnull String beanName) {
+                if (DATA_SOURCE.equals(beanName) && bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource) && !(bean instanceof AbstractRoutingDataSource)) {
+                    log.info("Monitor statements of data source '{}'.", beanName);
+                    return new MonitoredDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer easyHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.QUERY_PLAN_CACHE_ENABLED, true);
+            properties.putIfAbsent(AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, true);
+            if (jpaProperties.getCache().isEnabled()) {
+                properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, EasyRegionFactory.class.getName());
+                properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+                properties.putIfAbsent(AvailableSettings.USE_QUERY_CACHE, jpaProperties.getCache().isQueryCacheEnabled());
+                properties.putIfAbsent(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE.name());
+                properties.putIfAbsent(EasyRegionFactory.TIME_TO_LIVE, jpaProperties.getCache().getTimeToLive());
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public BulkImporter bulkImporter(PlatformTransactionManager transactionManager) {
+        JpaProperties.Bulk bulk = jpaProperties.getBulk();
+        return new BulkImporter(transactionManager, () -> ThreadUtil.newExecutor(bulk.getExecutor(), bulk.getParallelism(), "easy-bulk-"), bulk);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public AsyncServiceExecutor asyncServiceExecutor(PlatformTransactionManager transactionManager, DataSource dataSource) {
+        JpaProperties.Async async = jpaProperties.getAsync();
+        int concurrency = async.getConcurrency() > 0 ? async.getConcurrency() : getPoolSize(dataSource);
+        return new AsyncServiceExecutor(transactionManager, () -> ThreadUtil.newExecutor(async.getExecutor(), concurrency, "easy-async-"), concurrency);
+    }
+
     @Bean
     public AuditorAware<Long> auditorAware() {
         return new SequenceAuditorAwareImpl();
     }
+
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(BatchAuditor.getCurrent().map(s -> LocalDateTime.ofInstant(s.getTime().toInstant(), ZoneId.systemDefault())).orElseGet(LocalDateTime::now));
+    }
+
+    /**
+     * 读取连接池大小<br>无法读取时返回默认值
+     *
+     * @param dataSource 数据源
+     * @return 连接池大小
+     */
+    private int getPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        } catch (SQLException e) {
+            log.warn("Cannot read pool size of data source: {}", e.getMessage());
+        }
+        return DEFAULT_POOL_SIZE;
+    }
 }
@@ -0,0 +1,68 @@
+package net.ufrog.easy.configurations;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import net.ufrog.easy.configurations.properties.JpaProperties;
+import net.ufrog.easy.configurations.properties.RoutingProperties;
+import net.ufrog.easy.datasource.MonitoredDataSource;
+import net.ufrog.easy.datasource.RoutingDataSource;
+import net.ufrog.easy.utils.StringUtil;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 读写分离路由自动配置<br>
+ * 主库沿用 spring.datasource 及 spring.datasource.hikari 配置，从库使用 easy.datasource.routing.replicas 配置；
+ * 路由数据源单独注册为非默认候选的 bean，由容器在关闭时释放各连接池；启用语句监控时代理各目标数据源
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Slf4j
+@Configuration
+@AutoConfigureBefore(DataSourceAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "easy.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({DataSourceProperties.class, RoutingProperties.class, JpaProperties.class})
+public class RoutingDataSourceAutoConfiguration {
+
+    @Bean(defaultCandidate = false)
+    public RoutingDataSource routingDataSource(DataSourceProperties dataSourceProperties, RoutingProperties routingProperties, JpaProperties jpaProperties, Environment environment) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        StringUtil.ifNotEmpty(dataSourceProperties.getName(), primary::setPoolName);
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        List<DataSource> replicas = routingProperties.getReplicas().stream().map(replica -> {
+            DataSourceBuilder<?> builder = DataSourceBuilder.create().url(replica.getUrl()).username(replica.getUsername()).password(replica.getPassword());
+            StringUtil.ifNotEmpty(replica.getDriverClassName(), builder::driverClassName);
+            return (DataSource) builder.build();
+        }).toList();
+
+        log.info("Initialize routing data source with {} replica(s) by {}.", replicas.size(), routingProperties.getBalance());
+        if (jpaProperties.getMonitor().isEnabled()) {
+            log.info("Monitor statements of primary and replica data sources.");
+            return new RoutingDataSource(new MonitoredDataSource(primary), replicas.stream().map(v -> (DataSource) new MonitoredDataSource(v)).toList(), routingProperties.getBalance(), routingProperties.isSticky());
+        }
+        return new RoutingDataSource(primary, replicas, routingProperties.getBalance(), routingProperties.isSticky());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("routingDataSource") RoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,156 @@
+package net.ufrog.easy.configurations.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 持久化参数
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Getter
+@Setter
+@ConfigurationProperties("easy.jpa")
+public class JpaProperties {
+
+    /** 批处理大小<br>未配置 hibernate.jdbc.batch_size 时使用 */
+    private int batchSize = 1000;
+
+    /** IN 子句分段大小<br>超过该数量的编号列表将拆分为多条语句 */
+    private int inClauseSize = 1000;
+
+    /** 流式查询抓取大小 */
+    private int fetchSize = 500;
+
+    /** 分页总数缓存时间<br>单位：秒 */
+    private int countCacheTimeToLive = 60;
+
+    /** 编号生成 */
+    private Id id = new Id();
+
+    /** 二级缓存 */
+    private Cache cache = new Cache();
+
+    /** 批量导入 */
+    private Bulk bulk = new Bulk();
+
+    /** 语句监控 */
+    private Monitor monitor = new Monitor();
+
+    /** 异步业务 */
+    private Async async = new Async();
+
+    /**
+     * 编号生成
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    @Getter
+    @Setter
+    public static class Id {
+
+        /** 生成模式<br>sequence 单实例同步生成，striped 多通道无锁生成 */
+        private String mode = "sequence";
+
+        /** 工作节点编号<br>范围 0~31，未配置时自动计算 */
+        private Long workerId = null;
+
+        /** 数据中心编号<br>范围 0~31，未配置时自动计算 */
+        private Long datacenterId = null;
+
+        /** 通道数量<br>仅 striped 模式有效，须为 2 的幂且不超过 64 */
+        private int lanes = 4;
+    }
+
+    /**
+     * 二级缓存
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /** 是否启用<br>启用后标注 jakarta.persistence.Cacheable 的实体使用二级缓存 */
+        private boolean enabled = false;
+
+        /** 是否启用查询缓存<br>仅对启用二级缓存的实体条件查询有效 */
+        private boolean queryCacheEnabled = true;
+
+        /** 生存时间<br>单位：秒 */
+        private int timeToLive = 3600;
+    }
+
+    /**
+     * 批量导入
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    @Getter
+    @Setter
+    public static class Bulk {
+
+        /** 分段大小<br>每个分段使用独立事务 */
+        private int chunkSize = 5000;
+
+        /** 并行度<br>同时执行的分段数量，不应超过数据库连接池大小 */
+        private int parallelism = 4;
+
+        /** 分段失败重试次数 */
+        private int retries = 2;
+
+        /** 执行器类型<br>virtual 运行环境支持时使用虚拟线程，platform 使用与并行度相同数量的平台线程 */
+        private String executor = "virtual";
+    }
+
+    /**
+     * 语句监控
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    @Getter
+    @Setter
+    public static class Monitor {
+
+        /** 是否启用<br>启用后代理数据源并统计每条语句 */
+        private boolean enabled = false;
+
+        /** 单个请求语句预算 */
+        private int statementBudget = 50;
+
+        /** 单个请求同一形态语句重复阈值 */
+        private int repeatThreshold = 10;
+
+        /** 慢语句阈值<br>单位：毫秒 */
+        private long slowThreshold = 1000;
+    }
+
+    /**
+     * 异步业务
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    @Getter
+    @Setter
+    public static class Async {
+
+        /** 并发数<br>同时执行的异步查询数量，为 0 时使用数据库连接池大小 */
+        private int concurrency = 0;
+
+        /** 执行器类型<br>virtual 运行环境支持时使用虚拟线程，platform 使用与并发数相同数量的平台线程 */
+        private String executor = "virtual";
+    }
+}
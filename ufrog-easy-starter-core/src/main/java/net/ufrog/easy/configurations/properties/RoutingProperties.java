@@ -0,0 +1,57 @@
+package net.ufrog.easy.configurations.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 读写分离路由参数
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Getter
+@Setter
+@ConfigurationProperties("easy.datasource.routing")
+public class RoutingProperties {
+
+    /** 是否启用 */
+    private boolean enabled = false;
+
+    /** 负载均衡策略<br>round-robin 轮询，least-busy 最少活动连接 */
+    private String balance = "round-robin";
+
+    /** 是否粘滞<br>同一请求写入后的只读事务仍路由到主库 */
+    private boolean sticky = true;
+
+    /** 从库列表 */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 从库
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    @Getter
+    @Setter
+    public static class Replica {
+
+        /** 连接地址 */
+        private String url;
+
+        /** 用户名 */
+        private String username;
+
+        /** 密码 */
+        private String password;
+
+        /** 驱动类型<br>未配置时按连接地址推断 */
+        private String driverClassName;
+    }
+}
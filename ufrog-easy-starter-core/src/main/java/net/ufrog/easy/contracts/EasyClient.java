@@ -3,23 +3,30 @@ package net.ufrog.easy.contracts;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import net.ufrog.easy.authorizes.Authorize;
+import net.ufrog.easy.contracts.requests.BatchUpdateRequest;
 import net.ufrog.easy.contracts.requests.DataRequest;
 import net.ufrog.easy.contracts.requests.PageQueryRequest;
 import net.ufrog.easy.contracts.requests.QueryRequest;
+import net.ufrog.easy.contracts.responses.BatchResponse;
 import net.ufrog.easy.contracts.responses.DataResponse;
 import net.ufrog.easy.contracts.responses.ListResponse;
 import net.ufrog.easy.contracts.responses.PageResponse;
 import net.ufrog.easy.contracts.responses.Response;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 /**
  * 基础客户端
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-13
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 public interface EasyClient<RESP extends DataResponse, REQ extends DataRequest> {
@@ -54,6 +61,19 @@ public interface EasyClient<RESP extends DataResponse, REQ extends DataRequest>
     @RequestMapping(value = "/find/page", method = RequestMethod.GET)
     PageResponse<RESP> findPage(PageQueryRequest request);
 
+    /**
+     * 流式查询列表数据<br>
+     * 按只读前向游标逐行读取并转换成数据响应后立即输出，每输出抓取大小的数据冲刷一次，内存占用不随结果数量增长；
+     * 格式为 ndjson 时每行一个数据响应，为 json 时输出数据响应数组
+     *
+     * @param request 查询请求
+     * @param format 输出格式<br>支持 ndjson 和 json，默认 ndjson
+     * @return 流式响应
+     */
+    @Operation(summary = "流式查询列表数据")
+    @RequestMapping(value = "/find/stream", method = RequestMethod.GET)
+    ResponseEntity<StreamingResponseBody> findStream(QueryRequest request, @RequestParam(name = "_format", defaultValue = "ndjson") String format);
+
     /**
      * 创建数据
      *
@@ -75,6 +95,17 @@ public interface EasyClient<RESP extends DataResponse, REQ extends DataRequest>
     @RequestMapping(value = "/update/{id}", method = RequestMethod.PUT)
     RESP update(@PathVariable long id, @RequestBody REQ request);
 
+    /**
+     * 部分更新数据<br>仅更新请求中的非空字段，响应只包含编号及更新字段
+     *
+     * @param id 数据编号
+     * @param request 数据请求
+     * @return 数据响应
+     */
+    @Operation(summary = "部分更新数据")
+    @RequestMapping(value = "/update/{id}", method = RequestMethod.PATCH)
+    RESP patch(@PathVariable long id, @RequestBody REQ request);
+
     /**
      * 删除数据
      *
@@ -85,6 +116,36 @@ public interface EasyClient<RESP extends DataResponse, REQ extends DataRequest>
     @RequestMapping(value = "/delete/{id}", method = RequestMethod.DELETE)
     Response delete(@PathVariable long id);
 
+    /**
+     * 批量创建数据<br>在同一事务中批量插入，任一数据失败时全部回滚
+     *
+     * @param requests 数据请求列表
+     * @return 批量响应
+     */
+    @Operation(summary = "批量创建数据")
+    @RequestMapping(value = "/create/batch", method = RequestMethod.POST)
+    BatchResponse<RESP> createInBatch(@RequestBody List<REQ> requests);
+
+    /**
+     * 批量更新数据<br>在同一事务中批量更新存在的数据，不存在、已删除或重复编号的数据返回失败结果
+     *
+     * @param requests 批量更新请求列表
+     * @return 批量响应
+     */
+    @Operation(summary = "批量更新数据")
+    @RequestMapping(value = "/update/batch", method = RequestMethod.PUT)
+    BatchResponse<RESP> updateInBatch(@RequestBody List<BatchUpdateRequest<REQ>> requests);
+
+    /**
+     * 批量删除数据<br>使用集合语句逻辑删除，不存在、已删除或重复编号的数据返回失败结果；编号列表通过请求体传递，故使用 POST 方法
+     *
+     * @param ids 数据编号列表
+     * @return 批量响应
+     */
+    @Operation(summary = "批量删除数据")
+    @RequestMapping(value = "/delete/batch", method = RequestMethod.POST)
+    BatchResponse<RESP> deleteInBatch(@RequestBody List<Long> ids);
+
     /**
      * 创建前回调
      *
@@ -127,4 +188,58 @@ public interface EasyClient<RESP extends DataResponse, REQ extends DataRequest>
      * @param id 数据编号
      */
     default void onAfterDelete(long id) {}
+
+    /**
+     * 批量创建前回调<br>默认逐条调用创建前回调
+     *
+     * @param requests 数据请求列表
+     */
+    default void onBeforeCreateInBatch(List<REQ> requests) {
+        requests.forEach(this::onBeforeCreate);
+    }
+
+    /**
+     * 批量创建后回调<br>默认逐条调用创建后回调
+     *
+     * @param responses 数据响应列表
+     */
+    default void onAfterCreateInBatch(List<RESP> responses) {
+        responses.forEach(this::onAfterCreate);
+    }
+
+    /**
+     * 批量更新前回调<br>默认逐条调用更新前回调，重复编号仅包含首个请求
+     *
+     * @param requests 批量更新请求列表
+     */
+    default void onBeforeUpdateInBatch(List<BatchUpdateRequest<REQ>> requests) {
+        requests.forEach(r -> onBeforeUpdate(r.getId(), r.getData()));
+    }
+
+    /**
+     * 批量更新后回调<br>默认逐条调用更新后回调
+     *
+     * @param responses 数据响应列表
+     */
+    default void onAfterUpdateInBatch(List<RESP> responses) {
+        responses.forEach(this::onAfterUpdate);
+    }
+
+    /**
+     * 批量删除前回调<br>默认逐条调用删除前回调，包含去重后的全部编号
+     *
+     * @param ids 数据编号列表
+     */
+    default void onBeforeDeleteInBatch(List<Long> ids) {
+        ids.forEach(this::onBeforeDelete);
+    }
+
+    /**
+     * 批量删除后回调<br>默认逐条调用删除后回调，仅包含实际删除的编号
+     *
+     * @param ids 数据编号列表
+     */
+    default void onAfterDeleteInBatch(List<Long> ids) {
+        ids.forEach(this::onAfterDelete);
+    }
 }
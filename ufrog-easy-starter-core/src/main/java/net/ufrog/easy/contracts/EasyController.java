@@ -1,38 +1,70 @@
 package net.ufrog.easy.contracts;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.FactoryExpression;
 import com.querydsl.core.types.Predicate;
 import lombok.Getter;
+import net.ufrog.easy.ApplicationRequest;
+import net.ufrog.easy.configurations.properties.JpaProperties;
+import net.ufrog.easy.contracts.requests.BatchUpdateRequest;
 import net.ufrog.easy.contracts.requests.DataRequest;
 import net.ufrog.easy.contracts.requests.PageQueryRequest;
 import net.ufrog.easy.contracts.requests.QueryRequest;
+import net.ufrog.easy.contracts.responses.BatchResponse;
 import net.ufrog.easy.contracts.responses.DataResponse;
 import net.ufrog.easy.contracts.responses.ListResponse;
 import net.ufrog.easy.contracts.responses.PageResponse;
 import net.ufrog.easy.contracts.responses.Response;
+import net.ufrog.easy.contracts.responses.ResponseProjection;
 import net.ufrog.easy.exceptions.DataNotFoundException;
+import net.ufrog.easy.exceptions.InvalidRequestException;
 import net.ufrog.easy.i18n.I18N;
+import net.ufrog.easy.jpa.CountMode;
+import net.ufrog.easy.jpa.CountResult;
+import net.ufrog.easy.jpa.DataVersion;
 import net.ufrog.easy.jpa.EasyModel;
 import net.ufrog.easy.jpa.EasyService;
+import net.ufrog.easy.jpa.query.KeysetUtil;
+import net.ufrog.easy.utils.CryptoUtil;
 import net.ufrog.easy.utils.ObjectUtil;
 import net.ufrog.easy.utils.StringUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * 基础控制器
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-13
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 public class EasyController<T extends EasyModel, RESP extends DataResponse, REQ extends DataRequest> implements EasyClient<RESP, REQ> {
 
+    private static final String MESSAGE_DATA_NOT_FOUND = "common.exception.data-not-found";
+    private static final String MESSAGE_DUPLICATE_DATA = "common.exception.duplicate-data";
+    private static final String ID                      = "id";
+    private static final String FORMAT_NDJSON           = "ndjson";
+    private static final String FORMAT_JSON             = "json";
+    private static final MediaType NDJSON               = MediaType.parseMediaType("application/x-ndjson");
+
     /** 实体类型 */
     private Class<T> entityType;
 
@@ -45,6 +77,9 @@ public class EasyController<T extends EasyModel, RESP extends DataResponse, REQ
     /** 实体路径 */
     private EntityPath<T> entityPath;
 
+    /** 响应投影 */
+    private FactoryExpression<RESP> projection;
+
     /** 业务接口 */
     @Getter
     private EasyService<T> service;
@@ -52,28 +87,62 @@ public class EasyController<T extends EasyModel, RESP extends DataResponse, REQ
     /** 消息标识前缀 */
     private String messageKeyPrefix;
 
+    /** 序列化映射 */
+    private ObjectMapper objectMapper;
+
+    /** 持久化参数 */
+    private JpaProperties jpaProperties;
+
     @Override
     public RESP findOne(long id) {
+        if (isConditional() && checkNotModified(String.valueOf(id), getService().findUpdateTime(id).orElse(null))) return null;
         T entity = getService().findById(id).orElseThrow(() -> new DataNotFoundException(getEntityType(), "id", id));
+        if (!isConditional()) checkNotModified(String.valueOf(id), entity.getUpdateTime());
         return toResponse(entity, false, null);
     }
 
     @Override
     public ListResponse<RESP> findList(QueryRequest request) {
-        Predicate predicate = request.getPredicate(getEntityPath());
+        Predicate predicate = request.getPredicate(getEntityPath(), getJpaProperties().getInClauseSize());
         Sort sort = request.getSort();
+        Set<String> fieldSet = request.getFieldSet();
+        if (isProjection()) {
+            if (checkNotModified(findVersion(predicate))) return null;
+            return new ListResponse<>(getService().findAll(predicate, sort, getProjection(fieldSet)));
+        }
+        if (checkNotModified(predicate)) return null;
         List<T> list = getService().findAll(predicate, sort);
-        List<RESP> responses = list.stream().map(v -> toResponse(v, true, null)).toList();
+        if (!isConditional()) checkNotModified(getParametersDigest() + "-" + list.size(), getLastModified(list));
+        List<RESP> responses = list.stream().map(v -> toResponse(v, fieldSet)).toList();
         return new ListResponse<>(responses);
     }
 
     @Override
     public PageResponse<RESP> findPage(PageQueryRequest request) {
-        Predicate predicate = request.getPredicate(getEntityPath());
+        if (request.isCursorMode()) return findCursorPage(request);
+        Predicate predicate = request.getPredicate(getEntityPath(), getJpaProperties().getInClauseSize());
         Pageable pageable = request.getPageable();
-        Page<T> page = getService().findAll(predicate, pageable);
-        List<RESP> responses = page.getContent().stream().map(v -> toResponse(v, true, null)).toList();
-        return new PageResponse<>(page, responses);
+        CountMode countMode = request.getCountMode();
+        Set<String> fieldSet = request.getFieldSet();
+        if (isProjection() && checkNotModified(findVersion(predicate))) return null;
+        if (countMode == CountMode.EXACT && isProjection()) {
+            Page<RESP> page = getService().findAll(predicate, pageable, getProjection(fieldSet));
+            return new PageResponse<>(page, page.getContent());
+        } else if (countMode == CountMode.EXACT) {
+            Page<T> page = getService().findAll(predicate, pageable);
+            if (checkNotModified(page.getTotalElements(), page.getContent())) return null;
+            List<RESP> responses = page.getContent().stream().map(v -> toResponse(v, fieldSet)).toList();
+            return new PageResponse<>(page, responses);
+        } else if (isProjection()) {
+            Slice<RESP> slice = getService().findSlice(predicate, pageable, getProjection(fieldSet));
+            CountResult total = countTotal(predicate, pageable, slice, countMode);
+            return new PageResponse<>(slice, total.getCount(), total.getCountMode(), slice.getContent());
+        }
+        Slice<T> slice = getService().findSlice(predicate, pageable);
+        CountResult total = countTotal(predicate, pageable, slice, countMode);
+        if (checkNotModified(total.getCount(), slice.getContent())) return null;
+        List<RESP> responses = slice.getContent().stream().map(v -> toResponse(v, fieldSet)).toList();
+        return new PageResponse<>(slice, total.getCount(), total.getCountMode(), responses);
     }
 
     @Override
@@ -94,6 +163,19 @@ public class EasyController<T extends EasyModel, RESP extends DataResponse, REQ
         return response;
     }
 
+    @Override
+    public RESP patch(long id, REQ request) {
+        onBeforeUpdate(id, request);
+        T entity = fromRequest(request);
+        Set<String> fieldSet = new HashSet<>(getService().patch(id, getPatchValues(request, entity)).keySet());
+        fieldSet.add(ID);
+        entity.setId(id);
+        RESP response = ObjectUtil.newInstance(getResponseType()).build(entity, false, fieldSet);
+        response.getHeader().setMessage(I18N.get(getMessageKeyPrefix() + ".update.success"));
+        onAfterUpdate(response);
+        return response;
+    }
+
     @Override
     public Response delete(long id) {
         Response resp = new Response();
@@ -104,6 +186,127 @@ public class EasyController<T extends EasyModel, RESP extends DataResponse, REQ
         return resp;
     }
 
+    @Override
+    public BatchResponse<RESP> createInBatch(List<REQ> requests) {
+        BatchResponse<RESP> response = new BatchResponse<>();
+        onBeforeCreateInBatch(requests);
+        List<T> entities = getService().saveInBatch(requests.stream().map(this::fromRequest).toList());
+        List<RESP> responses = entities.stream().map(v -> toResponse(v, true, null)).toList();
+        onAfterCreateInBatch(responses);
+        for (int i = 0; i < responses.size(); i++) response.success(i, entities.get(i).getId(), responses.get(i));
+        response.getHeader().setMessage(I18N.get(getMessageKeyPrefix() + ".create.success"));
+        return response;
+    }
+
+    @Override
+    public BatchResponse<RESP> updateInBatch(List<BatchUpdateRequest<REQ>> requests) {
+        BatchResponse<RESP> response = new BatchResponse<>();
+        Map<Long, BatchUpdateRequest<REQ>> mRequest = new LinkedHashMap<>();
+        requests.forEach(r -> mRequest.putIfAbsent(r.getId(), r));
+
+        // Load, copy and save records in one service transaction, only the first request of each id is applied
+        onBeforeUpdateInBatch(new ArrayList<>(mRequest.values()));
+        Map<Long, T> mEntity = new LinkedHashMap<>();
+        mRequest.forEach((k, v) -> mEntity.put(k, fromRequest(v.getData())));
+        Map<Long, RESP> mResponse = new LinkedHashMap<>();
+        getService().updateInBatch(mEntity).forEach((k, v) -> mResponse.put(k, toResponse(v, true, null)));
+        onAfterUpdateInBatch(new ArrayList<>(mResponse.values()));
+
+        // Report results in request order from the records actually updated
+        for (int i = 0; i < requests.size(); i++) {
+            BatchUpdateRequest<REQ> request = requests.get(i);
+            if (mRequest.get(request.getId()) != request) {
+                response.failure(i, request.getId(), I18N.get(MESSAGE_DUPLICATE_DATA));
+            } else if (mResponse.containsKey(request.getId())) {
+                response.success(i, request.getId(), mResponse.get(request.getId()));
+            } else {
+                response.failure(i, request.getId(), I18N.get(MESSAGE_DATA_NOT_FOUND));
+            }
+        }
+        response.getHeader().setMessage(I18N.get(getMessageKeyPrefix() + ".update.success"));
+        return response;
+    }
+
+    @Override
+    public BatchResponse<RESP> deleteInBatch(List<Long> ids) {
+        BatchResponse<RESP> response = new BatchResponse<>();
+        List<Long> list = ids.stream().filter(Objects::nonNull).distinct().toList();
+
+        // Logical delete existing records with one set-based update
+        onBeforeDeleteInBatch(list);
+        Set<Long> deleted = new HashSet<>(getService().logicalDeleteExistingInBatchById(list));
+        onAfterDeleteInBatch(list.stream().filter(deleted::contains).toList());
+
+        // Report results in request order from the records actually deleted
+        Set<Long> reported = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id != null && !reported.add(id)) {
+                response.failure(i, id, I18N.get(MESSAGE_DUPLICATE_DATA));
+            } else if (deleted.contains(id)) {
+                response.success(i, id, null);
+            } else {
+                response.failure(i, id, I18N.get(MESSAGE_DATA_NOT_FOUND));
+            }
+        }
+        response.getHeader().setMessage(I18N.get(getMessageKeyPrefix() + ".delete.success"));
+        return response;
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> findStream(QueryRequest request, String format) {
+        boolean ndjson = FORMAT_NDJSON.equalsIgnoreCase(format);
+        if (!ndjson && !FORMAT_JSON.equalsIgnoreCase(format)) throw new InvalidRequestException(getClass(), "findStream", format);
+
+        Predicate predicate = request.getPredicate(getEntityPath(), getJpaProperties().getInClauseSize());
+        Sort sort = request.getSort();
+        Set<String> fieldSet = request.getFieldSet();
+        ObjectWriter writer = getObjectMapper().writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        int fetchSize = getJpaProperties().getFetchSize();
+        StreamingResponseBody body = ApplicationRequest.propagate(outputStream -> {
+            try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                if (!ndjson) generator.writeStartArray();
+                long[] count = {0};
+                getService().forEach(predicate, sort, v -> {
+                    try {
+                        writer.writeValue(generator, toResponse(v, fieldSet));
+                        if (ndjson) generator.writeRaw('\n');
+                        if (++count[0] % fetchSize == 0) generator.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, fetchSize);
+                if (!ndjson) generator.writeEndArray();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        });
+        return ResponseEntity.ok().contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * 游标查询分页数据<br>按键集条件读取下一页，不使用偏移量
+     *
+     * @param request 分页查询请求
+     * @return 数据分页响应
+     */
+    public PageResponse<RESP> findCursorPage(PageQueryRequest request) {
+        Predicate predicate = request.getPredicate(getEntityPath(), getJpaProperties().getInClauseSize());
+        Sort sort = request.getKeysetSort();
+        KeysetUtil.validate(getEntityType(), sort);
+        int size = request.getSize();
+        List<T> list = getService().findAll(ExpressionUtils.and(predicate, request.getCursorPredicate(getEntityPath())), sort, size + 1);
+        boolean hasNext = list.size() > size;
+        List<T> content = hasNext ? list.subList(0, size) : list;
+        String cursor = hasNext ? KeysetUtil.encode(content.get(size - 1), sort) : null;
+        CountResult total = getService().countTotal(predicate, request.getCountMode());
+        if (checkNotModified(total.getCount(), content)) return null;
+        Set<String> fieldSet = request.getFieldSet();
+        List<RESP> responses = content.stream().map(v -> toResponse(v, fieldSet)).toList();
+        return new PageResponse<>(size, total.getCount(), total.getCountMode(), cursor, responses);
+    }
+
     /**
      * 从实体转换成数据响应
      *
@@ -118,6 +321,66 @@ public class EasyController<T extends EasyModel, RESP extends DataResponse, REQ
         return response;
     }
 
+    /**
+     * 从实体转换成只包含返回字段的内部数据响应
+     *
+     * @param entity 实体
+     * @param fieldSet 返回字段集合<br>为空时转换全部字段
+     * @return 数据响应
+     */
+    public RESP toResponse(T entity, Set<String> fieldSet) {
+        if (fieldSet.isEmpty()) return toResponse(entity, true, null);
+        return ObjectUtil.newInstance(getResponseType()).build(entity, true, fieldSet);
+    }
+
+    /**
+     * 判断是否投影查询<br>响应类型标注 {@link net.ufrog.easy.contracts.responses.Projection} 时启用
+     *
+     * @return 判断结果
+     */
+    public boolean isProjection() {
+        return ResponseProjection.isProjection(getResponseType());
+    }
+
+    /**
+     * 读取响应投影
+     *
+     * @return 响应投影
+     */
+    public FactoryExpression<RESP> getProjection() {
+        if (projection == null) {
+            projection = new ResponseProjection<>(getEntityPath(), getResponseType(), true);
+        }
+        return projection;
+    }
+
+    /**
+     * 读取只查询返回字段的响应投影
+     *
+     * @param fieldSet 返回字段集合<br>为空时查询全部投影字段
+     * @return 响应投影
+     */
+    public FactoryExpression<RESP> getProjection(Set<String> fieldSet) {
+        return fieldSet.isEmpty() ? getProjection() : new ResponseProjection<>(getEntityPath(), getResponseType(), true, fieldSet);
+    }
+
+    /**
+     * 读取部分更新字段内容<br>只包含请求中非空的字段，字段值取自转换后的实体，实体字段的初始值不会被当作更新内容
+     *
+     * @param request 数据请求
+     * @param entity 由请求转换的实体
+     * @return 字段内容
+     */
+    public Map<String, Object> getPatchValues(REQ request, T entity) {
+        Map<String, ObjectUtil.ClassField> mEntityClassField = ObjectUtil.getAllClassFields(entity.getClass());
+        Map<String, Object> values = new LinkedHashMap<>();
+        ObjectUtil.getAllClassFields(request.getClass()).forEach((k, v) -> {
+            ObjectUtil.ClassField classField = mEntityClassField.get(k);
+            if (v.isGettable() && classField != null && classField.isGettable() && v.get(request) != null) values.put(k, classField.get(entity));
+        });
+        return values;
+    }
+
     /**
      * 从请求转换成实体数据
      *
@@ -187,6 +450,153 @@ public class EasyController<T extends EasyModel, RESP extends DataResponse, REQ
         this.service = service;
     }
 
+    /**
+     * 检查列表条件请求<br>
+     * 实体标签由请求参数摘要、数量及最大更新时间组成，只在请求包含条件请求头时执行一次聚合查询，未修改时设置 304 状态且不再查询数据
+     *
+     * @param predicate 查询条件
+     * @return 是否未修改
+     */
+    protected boolean checkNotModified(Predicate predicate) {
+        if (!isConditional()) return false;
+        return checkNotModified(getService().findVersion(predicate));
+    }
+
+    /**
+     * 检查分页条件请求<br>
+     * 实体标签由请求参数摘要、总数及本页数量组成，最后修改时间取本页最大更新时间；分页不再额外执行聚合查询，未修改时只省略响应内容
+     *
+     * @param total 总数
+     * @param content 本页实体
+     * @return 是否未修改
+     */
+    protected boolean checkNotModified(long total, List<T> content) {
+        return checkNotModified(getParametersDigest() + "-" + total + "-" + content.size(), getLastModified(content));
+    }
+
+    /**
+     * 检查条件请求<br>使用弱实体标签，由标识及最后修改时间组成
+     *
+     * @param tag 标识
+     * @param lastModified 最后修改时间<br>为空时不检查
+     * @return 是否未修改
+     */
+    protected boolean checkNotModified(String tag, Date lastModified) {
+        if (lastModified == null) return false;
+        String etag = "W/\"" + tag + "-" + Long.toHexString(lastModified.getTime()) + "\"";
+        return ApplicationRequest.getCurrent().map(r -> r.checkNotModified(etag, lastModified.getTime())).orElse(Boolean.FALSE);
+    }
+
+    /**
+     * 检查数据版本<br>实体标签与按实体列表计算的结果一致
+     *
+     * @param version 数据版本<br>为空时不检查
+     * @return 是否未修改
+     */
+    private boolean checkNotModified(DataVersion version) {
+        if (version == null) return false;
+        return checkNotModified(getParametersDigest() + "-" + version.getCount(), version.getLastModified());
+    }
+
+    /**
+     * 查询数据版本<br>投影不包含更新时间，存在当前请求时始终查询数据版本以设置响应头
+     *
+     * @param predicate 查询条件
+     * @return 数据版本<br>不存在当前请求时为空
+     */
+    private DataVersion findVersion(Predicate predicate) {
+        return ApplicationRequest.getCurrent().isPresent() ? getService().findVersion(predicate) : null;
+    }
+
+    /**
+     * 读取实体列表最大更新时间
+     *
+     * @param list 实体列表
+     * @return 最大更新时间
+     */
+    private Date getLastModified(List<T> list) {
+        return list.stream().map(EasyModel::getUpdateTime).filter(Objects::nonNull).max(Date::compareTo).orElse(null);
+    }
+
+    /**
+     * 统计分页总数<br>最后一页已能确定准确总数，只在存在更多记录时统计
+     *
+     * @param predicate 查询条件
+     * @param pageable 分页参数
+     * @param slice 分片
+     * @param countMode 统计模式
+     * @return 统计结果
+     */
+    private CountResult countTotal(Predicate predicate, Pageable pageable, Slice<?> slice, CountMode countMode) {
+        boolean counted = countMode != CountMode.NONE && !slice.hasNext() && (slice.hasContent() || pageable.getOffset() == 0);
+        return counted ? new CountResult(pageable.getOffset() + slice.getNumberOfElements(), CountMode.EXACT) : getService().countTotal(predicate, countMode);
+    }
+
+    /**
+     * 判断当前请求是否条件请求
+     *
+     * @return 判断结果
+     */
+    private boolean isConditional() {
+        return ApplicationRequest.getCurrent().map(ApplicationRequest::isConditional).orElse(Boolean.FALSE);
+    }
+
+    /**
+     * 读取请求参数摘要<br>参数按名称排序，不同查询、排序及分页的实体标签互不相同
+     *
+     * @return 参数摘要
+     */
+    private String getParametersDigest() {
+        String parameters = ApplicationRequest.getCurrent().map(r -> new TreeMap<>(r.getParameters()).entrySet().stream()
+                .map(e -> e.getKey() + "=" + String.join(",", e.getValue()))
+                .collect(Collectors.joining("&"))).orElse("");
+        return CryptoUtil.md5(parameters);
+    }
+
+    /**
+     * 读取序列化映射<br>未注入时使用默认配置
+     *
+     * @return 序列化映射
+     */
+    public ObjectMapper getObjectMapper() {
+        if (objectMapper == null) {
+            objectMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        }
+        return objectMapper;
+    }
+
+    /**
+     * 设置序列化映射<br>与消息转换器使用同一个实例，保持序列化规则一致
+     *
+     * @param objectMapper 序列化映射
+     */
+    @Autowired(required = false)
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 读取持久化参数<br>未注入时使用默认配置
+     *
+     * @return 持久化参数
+     */
+    public JpaProperties getJpaProperties() {
+        if (jpaProperties == null) {
+            jpaProperties = new JpaProperties();
+        }
+        return jpaProperties;
+    }
+
+    /**
+     * 设置持久化参数
+     *
+     * @param jpaProperties 持久化参数
+     */
+    @Autowired(required = false)
+    public void setJpaProperties(JpaProperties jpaProperties) {
+        this.jpaProperties = jpaProperties;
+    }
+
     /**
      * 读取消息标识前缀
      *
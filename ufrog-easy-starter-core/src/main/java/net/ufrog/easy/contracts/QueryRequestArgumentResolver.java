@@ -4,6 +4,7 @@ import jakarta.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import net.ufrog.easy.contracts.requests.PageQueryRequest;
 import net.ufrog.easy.contracts.requests.QueryRequest;
+import net.ufrog.easy.jpa.CountMode;
 import net.ufrog.easy.utils.ObjectUtil;
 import net.ufrog.easy.utils.StringUtil;
 import org.springframework.beans.MutablePropertyValues;
@@ -15,13 +16,15 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
  * 查询请求参数处理
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-12
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Slf4j
@@ -32,6 +35,9 @@ public class QueryRequestArgumentResolver implements HandlerMethodArgumentResolv
     private static final String ARGUMENT_PAGE                   = "_page";
     private static final String ARGUMENT_SIZE                   = "_size";
     private static final String ARGUMENT_ORDER                  = "_order";
+    private static final String ARGUMENT_FIELDS                 = "_fields";
+    private static final String ARGUMENT_CURSOR                 = "_cursor";
+    private static final String ARGUMENT_COUNT                  = "_count";
 
     @Override
     public boolean supportsParameter(@Nonnull MethodParameter parameter) {
@@ -77,6 +83,7 @@ public class QueryRequestArgumentResolver implements HandlerMethodArgumentResolv
      */
     private <T extends QueryRequest> Object resolveQueryRequest(Map<String, String[]> parameterMap, final T request) {
         if (parameterMap.containsKey(ARGUMENT_ORDER)) request.setOrder(parameterMap.get(ARGUMENT_ORDER)[0]);
+        if (parameterMap.containsKey(ARGUMENT_FIELDS)) request.setFields(String.join(",", parameterMap.get(ARGUMENT_FIELDS)));
         for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
             if (!entry.getKey().startsWith("_")) {
                 String property = entry.getKey();
@@ -89,20 +96,40 @@ public class QueryRequestArgumentResolver implements HandlerMethodArgumentResolv
                     operation = parts[1];
                 }
 
-                if (StringUtil.isEmpty(value) &&
-                        !StringUtil.equals(operation, QueryRequest.Operation.IS_NULL.name(), true) &&
-                        !StringUtil.equals(operation, QueryRequest.Operation.NOT_NULL.name(), true)) continue;
+                QueryRequest.Operation op = QueryRequest.Operation.valueOf(operation.toUpperCase());
+                List<String> values = op.isMultiValued() ? splitValues(entry.getValue()) : null;
+                if (values != null ? values.isEmpty() : (StringUtil.isEmpty(value) &&
+                        op != QueryRequest.Operation.IS_NULL &&
+                        op != QueryRequest.Operation.NOT_NULL)) continue;
 
                 QueryRequest.Criteria criteria = new QueryRequest.Criteria();
                 criteria.setProperty(property);
-                criteria.setOperation(QueryRequest.Operation.valueOf(operation.toUpperCase()));
-                criteria.setValue(value);
+                criteria.setOperation(op);
+                criteria.setValue(values != null ? values.get(0) : value);
+                criteria.setValues(values);
                 request.getCriteria().add(criteria);
             }
         }
         return request;
     }
 
+    /**
+     * 拆分多值参数<br>支持重复参数及逗号分隔
+     *
+     * @param params 参数值
+     * @return 内容列表
+     */
+    private List<String> splitValues(String[] params) {
+        List<String> values = new ArrayList<>();
+        for (String param : params) {
+            if (StringUtil.isEmpty(param)) continue;
+            for (String v : param.split(",")) {
+                if (!v.isBlank()) values.add(v.trim());
+            }
+        }
+        return values;
+    }
+
     /**
      * 处理分页查询请求
      *
@@ -114,6 +141,8 @@ public class QueryRequestArgumentResolver implements HandlerMethodArgumentResolv
     private <T extends PageQueryRequest> Object resolvePageQueryRequest(Map<String, String[]> parameterMap, final T request) {
         if (parameterMap.containsKey(ARGUMENT_PAGE)) request.setPage(Integer.parseInt(parameterMap.get(ARGUMENT_PAGE)[0]));
         if (parameterMap.containsKey(ARGUMENT_SIZE)) request.setSize(Integer.parseInt(parameterMap.get(ARGUMENT_SIZE)[0]));
+        if (parameterMap.containsKey(ARGUMENT_CURSOR)) request.setCursor(parameterMap.get(ARGUMENT_CURSOR)[0]);
+        if (parameterMap.containsKey(ARGUMENT_COUNT)) request.setCount(CountMode.parse(parameterMap.get(ARGUMENT_COUNT)[0]));
         return resolveQueryRequest(parameterMap, request);
     }
 }
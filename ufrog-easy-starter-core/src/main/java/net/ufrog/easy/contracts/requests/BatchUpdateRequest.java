@@ -0,0 +1,31 @@
+package net.ufrog.easy.contracts.requests;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+
+/**
+ * 批量更新请求<br>批量更新中的单个数据
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Getter
+@Setter
+@Schema(title = "批量更新请求")
+public class BatchUpdateRequest<REQ extends DataRequest> extends Request {
+
+    @Serial
+    private static final long serialVersionUID = -4466279306118734512L;
+
+    /** 数据编号 */
+    @Schema(title = "数据编号")
+    private long id;
+
+    /** 数据请求 */
+    @Schema(title = "数据请求")
+    private REQ data;
+}
@@ -1,10 +1,15 @@
 package net.ufrog.easy.contracts.requests;
 
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Setter;
 import net.ufrog.easy.ApplicationContext;
+import net.ufrog.easy.jpa.CountMode;
+import net.ufrog.easy.jpa.query.KeysetUtil;
+import net.ufrog.easy.utils.StringUtil;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -15,7 +20,7 @@ import java.io.Serial;
  * 分页查询请求
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-12
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Setter
@@ -33,6 +38,14 @@ public class PageQueryRequest extends QueryRequest {
     @Parameter(name = "_page", in = ParameterIn.QUERY, description = "目标页号，从0开始", example = "0")
     private int page;
 
+    /** 游标<br>为空字符串时表示游标模式的第一页 */
+    @Parameter(name = "_cursor", in = ParameterIn.QUERY, description = "游标，传入空值开启游标分页并读取第一页，之后传入上一页响应的游标")
+    private String cursor;
+
+    /** 总数统计模式 */
+    @Parameter(name = "_count", in = ParameterIn.QUERY, description = "总数统计模式：true/exact 精确统计、false/none 不统计、cached 缓存统计、estimated 估算统计，默认分页模式精确统计、游标模式不统计", example = "true")
+    private CountMode count;
+
     /** 构造函数 */
     public PageQueryRequest() {
         super();
@@ -71,6 +84,64 @@ public class PageQueryRequest extends QueryRequest {
         return getPageable(Sort.by(direction, properties));
     }
 
+    /**
+     * 判断是否为游标模式
+     *
+     * @return 判断结果
+     */
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
+
+    /**
+     * 判断是否统计总数
+     *
+     * @return 判断结果
+     */
+    public boolean isCount() {
+        return getCountMode() != CountMode.NONE;
+    }
+
+    /**
+     * 读取总数统计模式
+     *
+     * @return 总数统计模式
+     */
+    public CountMode getCountMode() {
+        if (count != null) return count;
+        return isCursorMode() ? CountMode.NONE : CountMode.EXACT;
+    }
+
+    /**
+     * 读取游标
+     *
+     * @return 游标
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * 读取键集排序<br>追加编号作为唯一排序
+     *
+     * @return 键集排序
+     */
+    public Sort getKeysetSort() {
+        return KeysetUtil.toKeysetSort(getSort());
+    }
+
+    /**
+     * 读取游标断言
+     *
+     * @param root 实体路径
+     * @return 游标断言<br>第一页时返回空
+     */
+    public Predicate getCursorPredicate(EntityPath<?> root) {
+        if (StringUtil.isEmpty(cursor)) return null;
+        Sort sort = getKeysetSort();
+        return KeysetUtil.getPredicate(root, sort, KeysetUtil.decode(cursor, root.getType(), sort));
+    }
+
     /**
      * 读取分页大小
      *
@@ -2,32 +2,41 @@ package net.ufrog.easy.contracts.requests;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
 import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
-import com.querydsl.core.types.dsl.NumberPath;
-import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.SimpleExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.Setter;
+import net.ufrog.easy.configurations.properties.JpaProperties;
 import net.ufrog.easy.exceptions.CommonException;
+import net.ufrog.easy.exceptions.InvalidRequestException;
+import net.ufrog.easy.utils.CollectionUtil;
+import net.ufrog.easy.utils.ObjectUtil;
 import net.ufrog.easy.utils.StringUtil;
 import org.springframework.data.domain.Sort;
 
 import java.io.Serial;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * 查询请求
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-12
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Getter
@@ -38,7 +47,7 @@ public class QueryRequest extends Request {
     @Serial
     private static final long serialVersionUID = -9070525629984612320L;
 
-    private static final Map<EntityPath<?>, Map<String, Path<?>>> ENTITY_PATH_MAP = new HashMap<>();
+    private static final Map<EntityPath<?>, Map<String, PathPlan>> PATH_PLAN_MAP = new ConcurrentHashMap<>();
 
     /** 准则 */
     @Parameter(hidden = true)
@@ -48,6 +57,10 @@ public class QueryRequest extends Request {
     @Parameter(name = "_order", in = ParameterIn.QUERY, description = "排序", example = "id,name:desc")
     private String order;
 
+    /** 返回字段 */
+    @Parameter(name = "_fields", in = ParameterIn.QUERY, description = "返回字段", example = "id,name")
+    private String fields;
+
     /** 构造函数 */
     public QueryRequest() {
         criteria = new ArrayList<>();
@@ -82,133 +95,221 @@ public class QueryRequest extends Request {
     }
 
     /**
-     * 读取断言
+     * 读取返回字段集合
+     *
+     * @return 返回字段集合<br>未指定时为空，返回全部字段
+     */
+    public Set<String> getFieldSet() {
+        if (StringUtil.isEmpty(fields)) return Set.of();
+        Set<String> set = new LinkedHashSet<>();
+        for (String f : fields.split(",")) {
+            if (!f.isBlank()) set.add(f.trim());
+        }
+        return set;
+    }
+
+    /**
+     * 读取断言<br>IN 子句使用默认分段大小
      *
      * @param root 实体路径
      * @return 断言
      */
     public Predicate getPredicate(EntityPath<?> root) {
-        Map<String, Path<?>> map = getPathMap(root);
+        return getPredicate(root, new JpaProperties().getInClauseSize());
+    }
+
+    /**
+     * 读取断言<br>各属性的路径、内容转换及操作在首次使用实体路径时编译并缓存，每次请求只绑定内容
+     *
+     * @param root 实体路径
+     * @param inClauseSize IN 子句分段大小
+     * @return 断言
+     */
+    public Predicate getPredicate(EntityPath<?> root, int inClauseSize) {
+        Map<String, PathPlan> mPathPlan = PATH_PLAN_MAP.computeIfAbsent(root, QueryRequest::compile);
         BooleanBuilder builder = new BooleanBuilder();
         for (Criteria c : criteria) {
-            Path<?> path = map.get(c.getProperty());
-            if (path != null) {
-                if (path instanceof StringPath stringPath) {
-                    resolveStringPath(stringPath, c.getValue(), c.getOperation(), builder);
-                } else if (path instanceof NumberPath<?> numberPath) {
-                    Class<?> type = numberPath.getType();
-                    if (type == Long.class) {
-                        Long value = StringUtil.isEmpty(c.getValue()) ? null : Long.parseLong(c.getValue());
-                        //noinspection unchecked
-                        resolveNumberPath((NumberPath<Long>) numberPath, value, c.getOperation(), builder);
-                    } else if (type == Integer.class) {
-                        Integer value = StringUtil.isEmpty(c.getValue()) ? null : Integer.parseInt(c.getValue());
-                        //noinspection unchecked
-                        resolveNumberPath((NumberPath<Integer>) numberPath, value, c.getOperation(), builder);
-                    } else {
-                        throw new CommonException("Unsupported number path type: " + type);
-                    }
-                }
-            }
+            PathPlan pathPlan = mPathPlan.get(c.getProperty());
+            if (pathPlan != null) builder.and(pathPlan.bind(c, inClauseSize));
         }
         return builder;
     }
 
     /**
-     * 处理字符串路径
+     * 编译实体路径<br>忽略无法转换内容类型的路径
      *
-     * @param stringPath 字符串路径
-     * @param value 内容
-     * @param operation 操作
-     * @param builder 构建器
+     * @param root 实体路径
+     * @return 属性与路径计划映射
      */
-    private void resolveStringPath(StringPath stringPath, String value, Operation operation, BooleanBuilder builder) {
-        switch (operation) {
-            case EQ:
-                builder.and(stringPath.eq(value));
-                break;
-            case NE:
-                builder.and(stringPath.ne(value));
-                break;
-            case LIKE:
-                builder.and(stringPath.like(value));
-                break;
-            case NOT_LIKE:
-                builder.and(stringPath.notLike(value));
-                break;
-            case CONTAINS:
-                builder.and(stringPath.contains(value));
-                break;
-            case STARTS_WITH:
-                builder.and(stringPath.startsWith(value));
-                break;
-            case ENDS_WITH:
-                builder.and(stringPath.endsWith(value));
-                break;
-            case IS_NULL:
-                builder.and(stringPath.isNull());
-                break;
-            case NOT_NULL:
-                builder.and(stringPath.isNotNull());
-                break;
+    private static Map<String, PathPlan> compile(EntityPath<?> root) {
+        Map<String, PathPlan> map = new HashMap<>();
+        for (Field f : root.getClass().getDeclaredFields()) {
+            try {
+                if (Modifier.isPublic(f.getModifiers()) && !Modifier.isStatic(f.getModifiers()) && f.get(root) instanceof SimpleExpression<?> path && path instanceof Path<?>) {
+                    Function<String, Object> converter = getConverter(path.getType());
+                    if (converter != null) map.put(f.getName(), new PathPlan(ObjectUtil.cast(path), converter));
+                }
+            } catch (IllegalAccessException e) {
+                throw CommonException.newInstance(e);
+            }
         }
+        return Collections.unmodifiableMap(map);
     }
 
     /**
-     * 处理数字路径
+     * 读取内容转换方法
+     *
+     * @param type 内容类型
+     * @return 转换方法<br>不支持的类型返回空
+     */
+    private static Function<String, Object> getConverter(Class<?> type) {
+        if (type == String.class) return v -> v;
+        if (type == Long.class) return Long::valueOf;
+        if (type == Integer.class) return Integer::valueOf;
+        if (type == Short.class) return Short::valueOf;
+        if (type == Byte.class) return Byte::valueOf;
+        if (type == Double.class) return Double::valueOf;
+        if (type == Float.class) return Float::valueOf;
+        if (type == BigDecimal.class) return BigDecimal::new;
+        if (type == BigInteger.class) return BigInteger::new;
+        if (type == Boolean.class) return v -> "1".equals(v) || Boolean.parseBoolean(v);
+        if (type == LocalDate.class) return LocalDate::parse;
+        if (type == LocalDateTime.class) return v -> LocalDateTime.parse(v.replace(' ', 'T'));
+        if (type == LocalTime.class) return LocalTime::parse;
+        if (type == Instant.class) return Instant::parse;
+        if (type == OffsetDateTime.class) return OffsetDateTime::parse;
+        if (type == ZonedDateTime.class) return ZonedDateTime::parse;
+        if (type == Date.class) return QueryRequest::parseDate;
+        if (type.isEnum()) return v -> Enum.valueOf(ObjectUtil.cast(type), v);
+        return null;
+    }
+
+    /**
+     * 解析日期<br>支持毫秒时间戳、日期及日期时间格式
      *
-     * @param numberPath 数字路径
      * @param value 内容
-     * @param operation 操作
-     * @param builder 构建器
+     * @return 日期
      */
-    private <T extends Number & Comparable<?>> void resolveNumberPath(NumberPath<T> numberPath, T value, Operation operation, BooleanBuilder builder) {
-        switch (operation) {
-            case EQ:
-                builder.and(numberPath.eq(value));
-                break;
-            case NE:
-                builder.and(numberPath.ne(value));
-                break;
-            case GT:
-                builder.and(numberPath.gt(value));
-                break;
-            case GOE:
-                builder.and(numberPath.goe(value));
-                break;
-            case LT:
-                builder.and(numberPath.lt(value));
-                break;
-            case LOE:
-                builder.and(numberPath.loe(value));
-                break;
-        }
+    private static Date parseDate(String value) {
+        if (value.chars().allMatch(Character::isDigit)) return new Date(Long.parseLong(value));
+        LocalDateTime dateTime = value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value.replace(' ', 'T'));
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
     }
 
     /**
-     * 读取路径映射
+     * 路径计划<br>预先编译路径支持的操作，绑定时只转换内容
      *
-     * @param root 实体路径
-     * @return 路径映射
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
      */
-    private Map<String, Path<?>> getPathMap(EntityPath<?> root) {
-        return ENTITY_PATH_MAP.computeIfAbsent(root, k -> {
-            Map<String, Path<?>> map = new HashMap<>();
-            Field[] fields = k.getClass().getDeclaredFields();
-            for (Field f : fields) {
+    private static final class PathPlan {
+
+        /** 属性路径 */
+        private final SimpleExpression<Object> path;
+
+        /** 内容转换方法 */
+        private final Function<String, Object> converter;
+
+        /** 操作与断言构建方法映射 */
+        private final Map<Operation, Function<List<Object>, Predicate>> operators = new EnumMap<>(Operation.class);
+
+        /**
+         * 构造函数
+         *
+         * @param path 属性路径
+         * @param converter 内容转换方法
+         */
+        private PathPlan(SimpleExpression<Object> path, Function<String, Object> converter) {
+            this.path = path;
+            this.converter = converter;
+
+            operators.put(Operation.EQ, values -> path.eq(values.get(0)));
+            operators.put(Operation.NE, values -> path.ne(values.get(0)));
+            operators.put(Operation.IS_NULL, values -> path.isNull());
+            operators.put(Operation.NOT_NULL, values -> path.isNotNull());
+            if (Comparable.class.isAssignableFrom(path.getType())) {
+                operators.put(Operation.GT, values -> compare(Ops.GT, values));
+                operators.put(Operation.GOE, values -> compare(Ops.GOE, values));
+                operators.put(Operation.LT, values -> compare(Ops.LT, values));
+                operators.put(Operation.LOE, values -> compare(Ops.LOE, values));
+                operators.put(Operation.BETWEEN, values -> compare(Ops.BETWEEN, values));
+            }
+            if ((Object) path instanceof StringExpression stringPath) {
+                operators.put(Operation.LIKE, values -> stringPath.like((String) values.get(0)));
+                operators.put(Operation.NOT_LIKE, values -> stringPath.notLike((String) values.get(0)));
+                operators.put(Operation.CONTAINS, values -> stringPath.contains((String) values.get(0)));
+                operators.put(Operation.STARTS_WITH, values -> stringPath.startsWith((String) values.get(0)));
+                operators.put(Operation.ENDS_WITH, values -> stringPath.endsWith((String) values.get(0)));
+            }
+        }
+
+        /**
+         * 绑定准则<br>路径不支持的操作及缺少内容的准则返回空，字符串路径的空串作为比较内容
+         *
+         * @param c 准则
+         * @param inClauseSize IN 子句分段大小
+         * @return 断言
+         */
+        private Predicate bind(Criteria c, int inClauseSize) {
+            Operation operation = c.getOperation();
+            Function<List<Object>, Predicate> operator = operators.get(operation);
+            boolean in = operation == Operation.IN || operation == Operation.NOT_IN;
+            if (operator == null && !in) return null;
+            if (operation == Operation.IS_NULL || operation == Operation.NOT_NULL) return operator.apply(List.of());
+
+            // Empty text is a real value for string paths, other paths cannot convert it
+            String value = c.getValue();
+            boolean absent = value == null || (value.isEmpty() && !((Object) path instanceof StringExpression));
+            List<String> raws = operation.isMultiValued() ? c.getAllValues() : absent ? List.of() : List.of(value);
+            if (operation == Operation.BETWEEN && raws.size() != 2) throw new InvalidRequestException(QueryRequest.class, "getPredicate", c.getProperty(), raws);
+            if (raws.isEmpty() && !operation.isMultiValued()) return null;
+
+            List<Object> values = new ArrayList<>(raws.size());
+            for (String raw : raws) {
                 try {
-                    if (Modifier.isPublic(f.getModifiers())) {
-                        Object value = f.get(root);
-                        if (value instanceof Path<?> path) {
-                            map.put(f.getName(), path);
-                        }
-                    }
-                } catch (IllegalAccessException e) {
-                    throw CommonException.newInstance(e);
+                    values.add(converter.apply(raw));
+                } catch (RuntimeException e) {
+                    throw new InvalidRequestException(QueryRequest.class, "getPredicate", c.getProperty(), raw);
                 }
             }
-            return map;
-        });
+            return in ? in(values, operation == Operation.IN, inClauseSize) : operator.apply(values);
+        }
+
+        /**
+         * 构建比较断言
+         *
+         * @param op 比较操作
+         * @param values 内容列表
+         * @return 断言
+         */
+        private Predicate compare(Ops op, List<Object> values) {
+            Expression<?>[] args = new Expression<?>[values.size() + 1];
+            args[0] = path;
+            for (int i = 0; i < values.size(); i++) args[i + 1] = Expressions.constant(values.get(i));
+            return Expressions.booleanOperation(op, args);
+        }
+
+        /**
+         * 构建包含断言<br>超出分段大小时拆分为多个子句，避免超出数据库参数数量限制
+         *
+         * @param values 内容列表
+         * @param included 是否包含
+         * @param inClauseSize 分段大小
+         * @return 断言
+         */
+        private Predicate in(List<Object> values, boolean included, int inClauseSize) {
+            if (values.size() <= inClauseSize) return included ? path.in(values) : path.notIn(values);
+            BooleanBuilder clause = new BooleanBuilder();
+            for (List<Object> chunk : CollectionUtil.partition(values, inClauseSize)) {
+                if (included) {
+                    clause.or(path.in(chunk));
+                } else {
+                    clause.and(path.notIn(chunk));
+                }
+            }
+            return clause;
+        }
     }
 
     /**
@@ -231,6 +332,20 @@ public class QueryRequest extends Request {
 
         /** 内容 */
         private String value;
+
+        /** 内容列表<br>多值操作使用，为空时按逗号拆分内容 */
+        private List<String> values;
+
+        /**
+         * 读取全部内容
+         *
+         * @return 内容列表
+         */
+        public List<String> getAllValues() {
+            if (values != null && !values.isEmpty()) return values;
+            if (StringUtil.isEmpty(value)) return List.of();
+            return Arrays.stream(value.split(",")).map(String::trim).filter(v -> !v.isEmpty()).toList();
+        }
     }
 
     /**
@@ -253,6 +368,18 @@ public class QueryRequest extends Request {
         NOT_LIKE,
         CONTAINS,
         STARTS_WITH,
-        ENDS_WITH
+        ENDS_WITH,
+        IN,
+        NOT_IN,
+        BETWEEN;
+
+        /**
+         * 判断是否多值操作
+         *
+         * @return 判断结果
+         */
+        public boolean isMultiValued() {
+            return this == IN || this == NOT_IN || this == BETWEEN;
+        }
     }
 }
@@ -0,0 +1,129 @@
+package net.ufrog.easy.contracts.responses;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 批量响应<br>按请求顺序返回每条数据的处理结果
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(title = "批量响应")
+public class BatchResponse<T extends Response> extends Response {
+
+    @Serial
+    private static final long serialVersionUID = 6710949452213186213L;
+
+    /** 处理结果 */
+    @Schema(title = "处理结果")
+    private final List<Item<T>> content;
+
+    /** 成功数量 */
+    @Schema(title = "成功数量")
+    private int succeeded;
+
+    /** 失败数量 */
+    @Schema(title = "失败数量")
+    private int failed;
+
+    /** 构造函数 */
+    public BatchResponse() {
+        this.content = new ArrayList<>();
+    }
+
+    /**
+     * 添加成功结果
+     *
+     * @param index 请求序号
+     * @param id 数据编号
+     * @param data 数据响应
+     * @return 当前响应
+     */
+    public BatchResponse<T> success(int index, Long id, T data) {
+        content.add(new Item<>(index, id, true, null, data));
+        succeeded++;
+        return this;
+    }
+
+    /**
+     * 添加失败结果
+     *
+     * @param index 请求序号
+     * @param id 数据编号
+     * @param message 失败消息
+     * @return 当前响应
+     */
+    public BatchResponse<T> failure(int index, Long id, String message) {
+        content.add(new Item<>(index, id, false, message, null));
+        failed++;
+        return this;
+    }
+
+    /**
+     * 批量处理结果
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    @Getter
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(title = "批量处理结果")
+    public static final class Item<T extends Response> implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = -2381829606466004417L;
+
+        /** 请求序号 */
+        @Schema(title = "请求序号")
+        private int index;
+
+        /** 数据编号 */
+        @Schema(title = "数据编号")
+        private Long id;
+
+        /** 是否成功 */
+        @Schema(title = "是否成功")
+        private boolean success;
+
+        /** 失败消息 */
+        @Schema(title = "失败消息")
+        private String message;
+
+        /** 数据响应 */
+        @Schema(title = "数据响应")
+        private T data;
+
+        /** 构造函数 */
+        public Item() {}
+
+        /**
+         * 构造函数
+         *
+         * @param index 请求序号
+         * @param id 数据编号
+         * @param success 是否成功
+         * @param message 失败消息
+         * @param data 数据响应
+         */
+        private Item(int index, Long id, boolean success, String message, T data) {
+            this.index = index;
+            this.id = id;
+            this.success = success;
+            this.message = message;
+            this.data = data;
+        }
+    }
+}
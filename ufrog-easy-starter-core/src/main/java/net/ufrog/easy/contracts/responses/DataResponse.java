@@ -10,14 +10,17 @@ import net.ufrog.easy.utils.ObjectUtil;
 import java.io.Serial;
 import java.io.Serializable;
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * 数据响应
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-10
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Getter
@@ -29,6 +32,8 @@ public class DataResponse extends Response {
     @Serial
     private static final long serialVersionUID = 3199074952378078367L;
 
+    private static final String ID = "id";
+
     /** 编号 */
     @Schema(title = "编号")
     private long id;
@@ -42,13 +47,28 @@ public class DataResponse extends Response {
      * @param <B> 对象泛型
      */
     public <R extends DataResponse, B extends Serializable> R build(final B bean, boolean internal) {
+        return build(bean, internal, Set.of());
+    }
+
+    /**
+     * 基于对象创建响应<br>只复制返回字段，其余字段保持为空且不输出，编号始终复制；
+     * 基本类型字段无法为空，未选择时仍以默认值输出，需要按字段返回的响应字段应声明为包装类型
+     *
+     * @param bean 对象
+     * @param internal 是否内部响应
+     * @param fieldSet 返回字段集合<br>为空时复制全部字段
+     * @return 响应
+     * @param <B> 对象泛型
+     */
+    public <R extends DataResponse, B extends Serializable> R build(final B bean, boolean internal, Set<String> fieldSet) {
         Map<String, DictUtil.DictField> mDictField = DictUtil.getDictFields(bean.getClass());
         Map<String, ObjectUtil.ClassField> mClassField = ObjectUtil.getAllClassFields(this.getClass());
         Map<ObjectUtil.ClassField, DictUtil.DictField> mCfDf = new HashMap<>();
+        String[] unselectedFields = getUnselectedFields(mClassField, fieldSet);
 
         // Check all dict fields and add to exclude fields
-        String[] excludeFields = mDictField.entrySet().stream().filter(e -> {
-            if (mClassField.containsKey(e.getKey())) {
+        String[] excludeFields = Stream.concat(Arrays.stream(unselectedFields), mDictField.entrySet().stream().filter(e -> {
+            if (mClassField.containsKey(e.getKey()) && (fieldSet.isEmpty() || fieldSet.contains(e.getKey()))) {
                 ObjectUtil.ClassField cf = mClassField.get(e.getKey());
                 Field rf = cf.getField();
                 Field bf = e.getValue().getClassField().getField();
@@ -57,7 +77,7 @@ public class DataResponse extends Response {
                 return !rf.getDeclaringClass().equals(bf.getDeclaringClass());
             }
             return false;
-        }).map(Map.Entry::getKey).toArray(String[]::new);
+        }).map(Map.Entry::getKey)).toArray(String[]::new);
 
         // Copy bean values to response
         ObjectUtil.copy(this, bean, true, false, excludeFields);
@@ -73,6 +93,18 @@ public class DataResponse extends Response {
         return internal(internal);
     }
 
+    /**
+     * 读取未选择字段<br>只包含响应类型实际存在的字段，不缓存客户端传入的字段组合
+     *
+     * @param mClassField 响应字段映射
+     * @param fieldSet 返回字段集合
+     * @return 未选择字段
+     */
+    private String[] getUnselectedFields(Map<String, ObjectUtil.ClassField> mClassField, Set<String> fieldSet) {
+        if (fieldSet.isEmpty()) return new String[0];
+        return mClassField.keySet().stream().filter(f -> !ID.equals(f) && !fieldSet.contains(f)).toArray(String[]::new);
+    }
+
     /**
      * 基于对象创建响应
      *
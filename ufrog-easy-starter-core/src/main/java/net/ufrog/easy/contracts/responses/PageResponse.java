@@ -3,7 +3,9 @@ package net.ufrog.easy.contracts.responses;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
+import net.ufrog.easy.jpa.CountMode;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.io.Serial;
 import java.util.Collection;
@@ -12,7 +14,7 @@ import java.util.Collection;
  * 分页响应
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-13
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Getter
@@ -35,6 +37,18 @@ public class PageResponse<T extends Response> extends ListResponse<T> {
     @Schema(title = "总记录数")
     private long totalElements;
 
+    /** 是否有下一页 */
+    @Schema(title = "是否有下一页")
+    private boolean hasNext;
+
+    /** 下一页游标 */
+    @Schema(title = "下一页游标")
+    private String cursor;
+
+    /** 总数统计模式 */
+    @Schema(title = "总数统计模式")
+    private CountMode countMode;
+
     /** 构造函数 */
     public PageResponse() {
         super();
@@ -45,7 +59,7 @@ public class PageResponse<T extends Response> extends ListResponse<T> {
      *
      * @param size 分页大小
      * @param number 当前页号
-     * @param totalElements 构造函数
+     * @param totalElements 总记录数
      * @param content 数据集合
      */
     public PageResponse(int size, int number, long totalElements, Collection<T> content) {
@@ -65,6 +79,38 @@ public class PageResponse<T extends Response> extends ListResponse<T> {
     @SuppressWarnings("unused")
     public PageResponse(Page<?> page, Collection<T> content) {
         this(page.getSize(), page.getNumber(), page.getTotalElements(), content);
+        this.hasNext = page.hasNext();
+        this.countMode = CountMode.EXACT;
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param slice 分片信息
+     * @param totalElements 总记录数<br>未统计时为 -1
+     * @param countMode 总数统计模式
+     * @param content 数据集合
+     */
+    public PageResponse(Slice<?> slice, long totalElements, CountMode countMode, Collection<T> content) {
+        this(slice.getSize(), slice.getNumber(), totalElements, content);
+        this.hasNext = slice.hasNext();
+        this.countMode = countMode;
+    }
+
+    /**
+     * 构造函数<br>游标分页
+     *
+     * @param size 分页大小
+     * @param totalElements 总记录数<br>未统计时为 -1
+     * @param countMode 总数统计模式
+     * @param cursor 下一页游标<br>没有下一页时为空
+     * @param content 数据集合
+     */
+    public PageResponse(int size, long totalElements, CountMode countMode, String cursor, Collection<T> content) {
+        this(size, 0, totalElements, content);
+        this.countMode = countMode;
+        this.cursor = cursor;
+        this.hasNext = (cursor != null);
     }
 
     /**
@@ -110,6 +156,6 @@ public class PageResponse<T extends Response> extends ListResponse<T> {
     @SuppressWarnings("unused")
     @Schema(title = "是否最后页")
     public boolean isLast() {
-        return number == (getTotalPages() - 1);
+        return (countMode != null || totalElements < 0) ? !hasNext : number == (getTotalPages() - 1);
     }
 }
@@ -0,0 +1,17 @@
+package net.ufrog.easy.contracts.responses;
+
+import java.lang.annotation.*;
+
+/**
+ * 投影查询标注<br>
+ * 标注在数据响应类型上时，列表及分页查询仅读取响应字段对应的列并直接构建响应，不加载托管实体
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Projection {
+}
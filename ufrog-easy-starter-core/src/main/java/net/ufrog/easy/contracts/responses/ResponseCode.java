@@ -13,7 +13,7 @@ import java.io.Serializable;
  * 响应代码
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-10
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Getter
@@ -26,6 +26,7 @@ public class ResponseCode implements Serializable {
 
     public static final ResponseCode OK                     = new ResponseCode("A000200", 200, true);
     public static final ResponseCode ACCEPTED               = new ResponseCode("A000202", 202, true);
+    public static final ResponseCode BAD_REQUEST            = new ResponseCode("A000400", 400, false);
     public static final ResponseCode UNAUTHORIZED           = new ResponseCode("A000401", 401, false);
     public static final ResponseCode FORBIDDEN              = new ResponseCode("A000403", 403, false);
     public static final ResponseCode NOT_FOUND              = new ResponseCode("A000404", 404, false);
@@ -0,0 +1,200 @@
+package net.ufrog.easy.contracts.responses;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.FactoryExpressionBase;
+import com.querydsl.core.types.Visitor;
+import com.querydsl.core.types.dsl.PathBuilder;
+import jakarta.persistence.*;
+import lombok.extern.slf4j.Slf4j;
+import net.ufrog.easy.exceptions.CommonException;
+import net.ufrog.easy.utils.DictUtil;
+import net.ufrog.easy.utils.ObjectUtil;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 数据响应投影<br>
+ * 选择实体与响应同名同类型的持久化字段，查询结果直接构建为数据响应，字典字段按 {@link DataResponse#build(Serializable, boolean)} 规则展开
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Slf4j
+public class ResponseProjection<R extends DataResponse> extends FactoryExpressionBase<R> {
+
+    @Serial
+    private static final long serialVersionUID = -3093466532711563245L;
+
+    /** 非基础属性标注 */
+    private static final List<Class<? extends Annotation>> EXCLUDE_ANNOTATIONS = List.of(Transient.class, OneToOne.class, OneToMany.class, ManyToOne.class, ManyToMany.class, ElementCollection.class, Embedded.class, EmbeddedId.class);
+
+    private static final String ID = "id";
+
+    /** 投影字段缓存 */
+    private static final Map<String, List<ProjectionField>> PROJECTION_FIELD_MAP = new ConcurrentHashMap<>();
+
+    /** 投影字段 */
+    private final transient List<ProjectionField> fields;
+
+    /** 查询表达式 */
+    private final List<Expression<?>> args;
+
+    /** 是否内部响应 */
+    private final boolean internal;
+
+    /**
+     * 构造函数
+     *
+     * @param root 实体路径
+     * @param responseType 响应类型
+     * @param internal 是否内部响应
+     */
+    public ResponseProjection(EntityPath<?> root, Class<? extends R> responseType, boolean internal) {
+        this(root, responseType, internal, Set.of());
+    }
+
+    /**
+     * 构造函数<br>只查询返回字段，编号始终查询
+     *
+     * @param root 实体路径
+     * @param responseType 响应类型
+     * @param internal 是否内部响应
+     * @param fieldSet 返回字段集合<br>为空时查询全部投影字段
+     */
+    public ResponseProjection(EntityPath<?> root, Class<? extends R> responseType, boolean internal, Set<String> fieldSet) {
+        super(ObjectUtil.cast(responseType));
+        PathBuilder<?> builder = new PathBuilder<>(root.getType(), root.getMetadata());
+        List<ProjectionField> all = PROJECTION_FIELD_MAP.computeIfAbsent(root.getType().getName() + ":" + responseType.getName(), k -> resolveFields(root.getType(), responseType));
+        this.fields = fieldSet.isEmpty() ? all : all.stream().filter(f -> ID.equals(f.name) || fieldSet.contains(f.name)).toList();
+        this.args = fields.stream().<Expression<?>>map(f -> builder.get(f.name, ObjectUtil.getType(f.type))).toList();
+        this.internal = internal;
+    }
+
+    /**
+     * 判断响应类型是否启用投影
+     *
+     * @param responseType 响应类型
+     * @return 判断结果
+     */
+    public static boolean isProjection(Class<?> responseType) {
+        return responseType.isAnnotationPresent(Projection.class);
+    }
+
+    @Override
+    public List<Expression<?>> getArgs() {
+        return args;
+    }
+
+    @Override
+    public R newInstance(Object... values) {
+        R response = ObjectUtil.cast(ObjectUtil.newInstance(getType()));
+        for (int i = 0; i < values.length; i++) {
+            ProjectionField field = fields.get(i);
+            Object value = values[i];
+            if (field.dictType != null) {
+                field.classField.set(response, DictElementResponse.create((Serializable) value, DictUtil.get(value, field.dictType), true));
+            } else if (value != null || !field.classField.getSetter().getParameterTypes()[0].isPrimitive()) {
+                field.classField.set(response, value);
+            }
+        }
+        return response.internal(internal);
+    }
+
+    @Override
+    public <RR, C> RR accept(Visitor<RR, C> v, C context) {
+        return v.visit(this, context);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        return obj instanceof ResponseProjection<?> other && getType().equals(other.getType()) && args.equals(other.args) && internal == other.internal;
+    }
+
+    /**
+     * 解析投影字段
+     *
+     * @param entityType 实体类型
+     * @param responseType 响应类型
+     * @return 投影字段列表
+     */
+    private static List<ProjectionField> resolveFields(Class<?> entityType, Class<?> responseType) {
+        Map<String, ObjectUtil.ClassField> mEntityClassField = ObjectUtil.getAllClassFields(entityType);
+        Map<String, DictUtil.DictField> mDictField = DictUtil.getDictFields(entityType);
+        List<ProjectionField> list = new ArrayList<>();
+
+        ObjectUtil.getAllClassFields(responseType).forEach((k, v) -> {
+            ObjectUtil.ClassField ecf = mEntityClassField.get(k);
+            if (ecf == null || !v.isSettable() || !isPersistent(ecf.getField())) return;
+
+            Field rf = v.getField();
+            Field ef = ecf.getField();
+            DictUtil.DictField df = mDictField.get(k);
+            if (df != null && !rf.getDeclaringClass().equals(ef.getDeclaringClass())) {
+                if (rf.getType().isAssignableFrom(DictElementResponse.class)) list.add(new ProjectionField(k, ef.getType(), v, df.getDictType().value()));
+            } else if (ObjectUtil.equalsClass(ef.getType(), v.getSetter().getParameterTypes()[0])) {
+                list.add(new ProjectionField(k, ef.getType(), v, null));
+            }
+        });
+        if (list.isEmpty()) throw new CommonException("Cannot find any projection field from " + responseType.getName() + " to " + entityType.getName() + ".");
+        log.info("Resolve {} projection field(s) from {} for {}.", list.size(), entityType.getName(), responseType.getName());
+        return List.copyOf(list);
+    }
+
+    /**
+     * 判断是否为基础持久化字段
+     *
+     * @param field 字段
+     * @return 判断结果
+     */
+    private static boolean isPersistent(Field field) {
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isTransient(field.getModifiers())) return false;
+        if (Collection.class.isAssignableFrom(field.getType()) || Map.class.isAssignableFrom(field.getType())) return false;
+        return EXCLUDE_ANNOTATIONS.stream().noneMatch(field::isAnnotationPresent);
+    }
+
+    /**
+     * 投影字段
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    private static final class ProjectionField {
+
+        /** 字段名称 */
+        private final String name;
+
+        /** 实体字段类型 */
+        private final Class<?> type;
+
+        /** 响应字段 */
+        private final ObjectUtil.ClassField classField;
+
+        /** 字典类型<br>非字典字段为空 */
+        private final Class<?> dictType;
+
+        /**
+         * 构造函数
+         *
+         * @param name 字段名称
+         * @param type 实体字段类型
+         * @param classField 响应字段
+         * @param dictType 字典类型
+         */
+        private ProjectionField(String name, Class<?> type, ObjectUtil.ClassField classField, Class<?> dictType) {
+            this.name = name;
+            this.type = type;
+            this.classField = classField;
+            this.dictType = dictType;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package net.ufrog.easy.datasource;
+
+import net.ufrog.easy.jpa.monitor.StatementMonitor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 监控数据源<br>代理连接及语句，记录每条语句的执行耗时；关闭时关闭目标数据源
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class MonitoredDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final String BATCH = "batch";
+
+    /**
+     * 构造函数
+     *
+     * @param dataSource 数据源
+     */
+    public MonitoredDataSource(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) closeable.close();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return monitor(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return monitor(super.getConnection(username, password));
+    }
+
+    /**
+     * 代理连接<br>创建的语句均为监控代理
+     *
+     * @param connection 连接
+     * @return 连接代理
+     */
+    private static Connection monitor(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && method.getReturnType().isInterface() && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = (args != null && args.length > 0 && args[0] instanceof String str) ? str : null;
+                return monitor(statement, method.getReturnType(), sql);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * 代理语句<br>记录执行方法耗时，预编译语句使用预编译语句文本
+     *
+     * @param statement 语句
+     * @param type 语句接口
+     * @param preparedSql 预编译语句文本
+     * @return 语句代理
+     */
+    private static Statement monitor(Statement statement, Class<?> type, String preparedSql) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) return invoke(statement, method, args);
+
+            String sql = preparedSql != null ? preparedSql : (args != null && args.length > 0 && args[0] instanceof String str) ? str : BATCH;
+            long start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                StatementMonitor.record(sql, System.nanoTime() - start);
+            }
+        });
+    }
+
+    /**
+     * 调用被代理对象
+     *
+     * @param target 被代理对象
+     * @param method 方法
+     * @param args 参数
+     * @return 调用结果
+     * @throws Throwable 原始异常
+     */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
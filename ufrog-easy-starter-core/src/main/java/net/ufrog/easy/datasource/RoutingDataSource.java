@@ -0,0 +1,179 @@
+package net.ufrog.easy.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ufrog.easy.ApplicationRequest;
+import net.ufrog.easy.exceptions.CommonException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 读写分离路由数据源<br>
+ * 只读事务路由到从库，其余路由到主库；须包装在 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 中使用，
+ * 以便在事务只读标志设置后才获取实际连接；销毁时关闭主库及从库
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Slf4j
+public class RoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String BALANCE_ROUND_ROBIN  = "round-robin";
+    public static final String BALANCE_LEAST_BUSY   = "least-busy";
+
+    private static final String PRIMARY             = "primary";
+    private static final String REPLICA             = "replica";
+
+    /** 主库 */
+    private final DataSource primary;
+
+    /** 从库列表 */
+    private final List<ReplicaDataSource> replicas;
+
+    /** 是否最少活动连接策略 */
+    private final boolean leastBusy;
+
+    /** 是否粘滞 */
+    private final boolean sticky;
+
+    /** 轮询计数 */
+    private final AtomicInteger counter = new AtomicInteger();
+
+    /**
+     * 构造函数
+     *
+     * @param primary 主库
+     * @param replicas 从库列表
+     * @param balance 负载均衡策略
+     * @param sticky 是否粘滞
+     */
+    public RoutingDataSource(DataSource primary, List<DataSource> replicas, String balance, boolean sticky) {
+        if (!BALANCE_ROUND_ROBIN.equals(balance) && !BALANCE_LEAST_BUSY.equals(balance)) throw new CommonException("Unsupported routing balance: " + balance);
+        this.primary = primary;
+        this.replicas = replicas.stream().map(ReplicaDataSource::new).toList();
+        this.leastBusy = BALANCE_LEAST_BUSY.equals(balance);
+        this.sticky = sticky;
+
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) targets.put(REPLICA + "-" + i, this.replicas.get(i));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty()) return PRIMARY;
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (sticky && TransactionSynchronizationManager.isActualTransactionActive()) ApplicationRequest.getCurrent().ifPresent(request -> request.setPrimaryRequired(true));
+            return PRIMARY;
+        }
+        if (sticky && ApplicationRequest.getCurrent().map(ApplicationRequest::isPrimaryRequired).orElse(Boolean.FALSE)) {
+            return PRIMARY;
+        }
+        return REPLICA + "-" + (leastBusy ? leastBusyReplica() : Math.floorMod(counter.getAndIncrement(), replicas.size()));
+    }
+
+    @Override
+    public void destroy() {
+        List<DataSource> dataSources = new ArrayList<>();
+        dataSources.add(primary);
+        replicas.forEach(replica -> dataSources.add(replica.getTargetDataSource()));
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Cannot close data source: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 读取从库活动连接数
+     *
+     * @return 活动连接数列表
+     */
+    public List<Integer> getReplicaActiveConnections() {
+        return replicas.stream().map(r -> r.active.get()).toList();
+    }
+
+    /**
+     * 选择最少活动连接的从库<br>活动连接数相同时从轮询位置开始选择，避免总是命中第一个从库
+     *
+     * @return 从库序号
+     */
+    private int leastBusyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(counter.getAndIncrement(), size);
+        int result = start;
+        for (int i = 1; i < size; i++) {
+            int index = (start + i) % size;
+            if (replicas.get(index).active.get() < replicas.get(result).active.get()) result = index;
+        }
+        return result;
+    }
+
+    /**
+     * 从库数据源<br>统计活动连接数
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    private static final class ReplicaDataSource extends DelegatingDataSource {
+
+        /** 活动连接数 */
+        private final AtomicInteger active = new AtomicInteger();
+
+        /**
+         * 构造函数
+         *
+         * @param dataSource 数据源
+         */
+        private ReplicaDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(super.getConnection(username, password));
+        }
+
+        /**
+         * 跟踪连接关闭
+         *
+         * @param connection 连接
+         * @return 连接代理
+         */
+        private Connection track(Connection connection) {
+            AtomicBoolean closed = new AtomicBoolean(false);
+            active.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) active.decrementAndGet();
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package net.ufrog.easy.exceptions;
+
+import java.io.Serial;
+
+/**
+ * 无效请求异常<br>请求参数绑定或解析失败时抛出，响应为请求参数错误
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class InvalidRequestException extends InvalidArgumentException {
+
+    @Serial
+    private static final long serialVersionUID = 7412093865521046783L;
+
+    /**
+     * 构造函数
+     *
+     * @param clazz 类型
+     * @param method 方法
+     * @param args 参数
+     */
+    public InvalidRequestException(Class<?> clazz, String method, Object... args) {
+        super(clazz, method, args);
+    }
+}
@@ -4,13 +4,14 @@ import jakarta.annotation.Nonnull;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import net.ufrog.easy.ApplicationRequest;
+import net.ufrog.easy.jpa.monitor.StatementMonitor;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 /**
  * 应用拦截器
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-12
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 public class ApplicationInterceptor implements HandlerInterceptor {
@@ -20,4 +21,9 @@ public class ApplicationInterceptor implements HandlerInterceptor {
         ApplicationRequest.setCurrent(new ApplicationRequest(request, response));
         return true;
     }
+
+    @Override
+    public void afterCompletion(@Nonnull HttpServletRequest request, @Nonnull HttpServletResponse response, @Nonnull Object handler, Exception ex) {
+        ApplicationRequest.getCurrent().ifPresent(StatementMonitor::complete);
+    }
 }
@@ -0,0 +1,231 @@
+package net.ufrog.easy.jpa;
+
+import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 异步业务<br>
+ * 对应 {@link EasyService} 的读取方法，各方法在独立的只读事务中异步执行，返回的实体均为游离状态，不能再加载延迟关联
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class AsyncEasyService<T extends EasyModel> {
+
+    /** 业务 */
+    private final EasyService<T> service;
+
+    /** 执行器 */
+    private final AsyncServiceExecutor executor;
+
+    /**
+     * 构造函数
+     *
+     * @param service 业务
+     * @param executor 执行器
+     */
+    public AsyncEasyService(EasyService<T> service, AsyncServiceExecutor executor) {
+        this.service = service;
+        this.executor = executor;
+    }
+
+    /**
+     * 按编号查询实体
+     *
+     * @param id 编号
+     * @return 实体
+     */
+    public CompletableFuture<Optional<T>> findById(long id) {
+        return executor.supply(() -> service.findById(id));
+    }
+
+    /**
+     * 按条件查询单个实体
+     *
+     * @param predicate 查询条件
+     * @return 实体
+     */
+    public CompletableFuture<Optional<T>> findOne(Predicate predicate) {
+        return executor.supply(() -> service.findOne(predicate));
+    }
+
+    /**
+     * 查询全部实体
+     *
+     * @return 实体列表
+     */
+    public CompletableFuture<List<T>> findAll() {
+        return executor.supply(service::findAll);
+    }
+
+    /**
+     * 按排序查询全部实体
+     *
+     * @param sort 排序
+     * @return 实体列表
+     */
+    public CompletableFuture<List<T>> findAll(Sort sort) {
+        return executor.supply(() -> service.findAll(sort));
+    }
+
+    /**
+     * 按编号列表查询实体
+     *
+     * @param ids 编号列表
+     * @return 实体列表
+     */
+    public CompletableFuture<List<T>> findAll(Iterable<Long> ids) {
+        return executor.supply(() -> service.findAll(ids));
+    }
+
+    /**
+     * 按条件查询实体
+     *
+     * @param predicate 查询条件
+     * @return 实体列表
+     */
+    public CompletableFuture<List<T>> findAll(Predicate predicate) {
+        return executor.supply(() -> service.findAll(predicate));
+    }
+
+    /**
+     * 按条件及排序查询实体
+     *
+     * @param predicate 查询条件
+     * @param sort 排序
+     * @return 实体列表
+     */
+    public CompletableFuture<List<T>> findAll(Predicate predicate, Sort sort) {
+        return executor.supply(() -> service.findAll(predicate, sort));
+    }
+
+    /**
+     * 按条件分页查询实体
+     *
+     * @param predicate 查询条件
+     * @param pageable 分页信息
+     * @return 实体分页
+     */
+    public CompletableFuture<Page<T>> findAll(Predicate predicate, Pageable pageable) {
+        return executor.supply(() -> service.findAll(predicate, pageable));
+    }
+
+    /**
+     * 按条件及排序查询限定数量的实体
+     *
+     * @param predicate 查询条件
+     * @param sort 排序
+     * @param limit 数量
+     * @return 实体列表
+     */
+    public CompletableFuture<List<T>> findAll(Predicate predicate, Sort sort, int limit) {
+        return executor.supply(() -> service.findAll(predicate, sort, limit));
+    }
+
+    /**
+     * 按条件查询实体切片
+     *
+     * @param predicate 查询条件
+     * @param pageable 分页信息
+     * @return 实体切片
+     */
+    public CompletableFuture<Slice<T>> findSlice(Predicate predicate, Pageable pageable) {
+        return executor.supply(() -> service.findSlice(predicate, pageable));
+    }
+
+    /**
+     * 按条件及排序查询投影
+     *
+     * @param predicate 查询条件
+     * @param sort 排序
+     * @param projection 投影
+     * @return 投影列表
+     * @param <R> 投影泛型
+     */
+    public <R> CompletableFuture<List<R>> findAll(Predicate predicate, Sort sort, FactoryExpression<R> projection) {
+        return executor.supply(() -> service.findAll(predicate, sort, projection));
+    }
+
+    /**
+     * 按条件分页查询投影
+     *
+     * @param predicate 查询条件
+     * @param pageable 分页信息
+     * @param projection 投影
+     * @return 投影分页
+     * @param <R> 投影泛型
+     */
+    public <R> CompletableFuture<Page<R>> findAll(Predicate predicate, Pageable pageable, FactoryExpression<R> projection) {
+        return executor.supply(() -> service.findAll(predicate, pageable, projection));
+    }
+
+    /**
+     * 统计全部数量
+     *
+     * @return 数量
+     */
+    public CompletableFuture<Long> count() {
+        return executor.supply(service::count);
+    }
+
+    /**
+     * 按条件统计数量
+     *
+     * @param predicate 查询条件
+     * @return 数量
+     */
+    public CompletableFuture<Long> count(Predicate predicate) {
+        return executor.supply(() -> service.count(predicate));
+    }
+
+    /**
+     * 按条件及统计模式统计数量
+     *
+     * @param predicate 查询条件
+     * @param countMode 统计模式
+     * @return 数量
+     */
+    public CompletableFuture<Long> count(Predicate predicate, CountMode countMode) {
+        return executor.supply(() -> service.count(predicate, countMode));
+    }
+
+    /**
+     * 按条件及统计模式统计数量<br>同时返回实际使用的统计模式
+     *
+     * @param predicate 查询条件
+     * @param countMode 统计模式
+     * @return 统计结果
+     */
+    public CompletableFuture<CountResult> countTotal(Predicate predicate, CountMode countMode) {
+        return executor.supply(() -> service.countTotal(predicate, countMode));
+    }
+
+    /**
+     * 判断编号是否存在
+     *
+     * @param id 编号
+     * @return 判断结果
+     */
+    public CompletableFuture<Boolean> exists(long id) {
+        return executor.supply(() -> service.exists(id));
+    }
+
+    /**
+     * 判断条件是否存在
+     *
+     * @param predicate 查询条件
+     * @return 判断结果
+     */
+    public CompletableFuture<Boolean> exists(Predicate predicate) {
+        return executor.supply(() -> service.exists(predicate));
+    }
+}
@@ -0,0 +1,114 @@
+package net.ufrog.easy.jpa;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.ufrog.easy.ApplicationRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 异步业务执行器<br>
+ * 每个任务在独立的只读事务中执行并传递调用线程的应用请求，同时执行的任务数量不超过并发数，超出时在执行线程中等待
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Slf4j
+public class AsyncServiceExecutor implements AutoCloseable {
+
+    /** 只读事务模版 */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 执行器工厂 */
+    private final Supplier<ExecutorService> executorSupplier;
+
+    /** 执行器<br>首次执行时创建 */
+    private volatile ExecutorService executor;
+
+    /** 并发信号量 */
+    private final Semaphore semaphore;
+
+    /** 并发数 */
+    @Getter
+    private final int concurrency;
+
+    /**
+     * 构造函数
+     *
+     * @param transactionManager 事务管理器
+     * @param executor 执行器
+     * @param concurrency 并发数
+     */
+    public AsyncServiceExecutor(PlatformTransactionManager transactionManager, ExecutorService executor, int concurrency) {
+        this(transactionManager, () -> executor, concurrency);
+    }
+
+    /**
+     * 构造函数<br>执行器在首次执行时创建，未使用时不占用线程
+     *
+     * @param transactionManager 事务管理器
+     * @param executorSupplier 执行器工厂
+     * @param concurrency 并发数
+     */
+    public AsyncServiceExecutor(PlatformTransactionManager transactionManager, Supplier<ExecutorService> executorSupplier, int concurrency) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.executorSupplier = executorSupplier;
+        this.semaphore = new Semaphore(concurrency);
+        this.concurrency = concurrency;
+        log.info("Initialize async service executor with concurrency {}.", concurrency);
+    }
+
+    /**
+     * 异步执行
+     *
+     * @param supplier 执行内容
+     * @return 执行结果
+     * @param <R> 结果泛型
+     */
+    public <R> CompletableFuture<R> supply(Supplier<R> supplier) {
+        return CompletableFuture.supplyAsync(ApplicationRequest.propagate(() -> {
+            try {
+                semaphore.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return transactionTemplate.execute(status -> supplier.get());
+            } finally {
+                semaphore.release();
+            }
+        }), getExecutor());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) executor.shutdown();
+    }
+
+    /**
+     * 读取执行器<br>首次调用时创建
+     *
+     * @return 执行器
+     */
+    private ExecutorService getExecutor() {
+        ExecutorService result = executor;
+        if (result == null) {
+            synchronized (this) {
+                if (executor == null) executor = executorSupplier.get();
+                result = executor;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,124 @@
+package net.ufrog.easy.jpa;
+
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 批量审计<br>
+ * 批量执行期间审计用户及时间只解析一次，批量操作直接写入审计字段，审计监听器不再逐个实体解析
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class BatchAuditor {
+
+    /** 当前批量审计 */
+    private static final ThreadLocal<Stamp> CURRENT = new ThreadLocal<>();
+
+    /** 构造函数<br>不允许外部构造 */
+    private BatchAuditor() {}
+
+    /**
+     * 批量审计执行<br>已处于批量审计时沿用当前审计
+     *
+     * @param auditor 审计用户供应
+     * @param supplier 执行内容
+     * @return 执行结果
+     * @param <R> 结果泛型
+     */
+    public static <R> R with(Supplier<Long> auditor, Supplier<R> supplier) {
+        if (CURRENT.get() != null) return supplier.get();
+        CURRENT.set(new Stamp(auditor.get(), new Date()));
+        try {
+            return supplier.get();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 读取当前批量审计
+     *
+     * @return 当前批量审计
+     */
+    public static Optional<Stamp> getCurrent() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * 写入创建审计字段<br>与审计监听器创建时的行为一致，同时写入更新及删除审计字段
+     *
+     * @param model 模型
+     * @param stamp 审计
+     */
+    public static void stampCreate(EasyModel model, Stamp stamp) {
+        model.setCreator(stamp.getAuditor());
+        model.setCreateTime(stamp.getTime());
+        model.setDeleter(stamp.getAuditor());
+        model.setDeleteTime(stamp.getTime());
+        stampUpdate(model, stamp);
+    }
+
+    /**
+     * 写入更新审计字段
+     *
+     * @param model 模型
+     * @param stamp 审计
+     */
+    public static void stampUpdate(EasyModel model, Stamp stamp) {
+        model.setUpdater(stamp.getAuditor());
+        model.setUpdateTime(stamp.getTime());
+    }
+
+    /**
+     * 审计
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    @Getter
+    public static final class Stamp {
+
+        /** 审计用户 */
+        private final Long auditor;
+
+        /** 审计时间 */
+        private final Date time;
+
+        /**
+         * 构造函数
+         *
+         * @param auditor 审计用户
+         * @param time 审计时间
+         */
+        public Stamp(Long auditor, Date time) {
+            this.auditor = auditor;
+            this.time = time;
+        }
+
+        /**
+         * 判断创建审计字段是否已写入
+         *
+         * @param model 模型
+         * @return 判断结果
+         */
+        boolean isCreateStamped(EasyModel model) {
+            return time.equals(model.getCreateTime()) && auditor.equals(model.getCreator()) && isUpdateStamped(model);
+        }
+
+        /**
+         * 判断更新审计字段是否已写入
+         *
+         * @param model 模型
+         * @return 判断结果
+         */
+        boolean isUpdateStamped(EasyModel model) {
+            return time.equals(model.getUpdateTime()) && auditor.equals(model.getUpdater());
+        }
+    }
+}
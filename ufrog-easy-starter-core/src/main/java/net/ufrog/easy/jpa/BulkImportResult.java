@@ -0,0 +1,212 @@
+package net.ufrog.easy.jpa;
+
+import lombok.Getter;
+import net.ufrog.easy.utils.DateTimeUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 批量导入结果<br>导入过程中同时作为进度回调参数，各计数均为线程安全
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class BulkImportResult {
+
+    /** 计时器 */
+    private final DateTimeUtil.Timer timer = new DateTimeUtil.Timer();
+
+    /** 已提交分段数量 */
+    private final AtomicInteger submittedChunks = new AtomicInteger();
+
+    /** 已完成分段数量<br>包含失败分段 */
+    private final AtomicInteger completedChunks = new AtomicInteger();
+
+    /** 重试次数 */
+    private final AtomicInteger retries = new AtomicInteger();
+
+    /** 已导入记录数量 */
+    private final AtomicLong succeeded = new AtomicLong();
+
+    /** 失败分段 */
+    private final List<Failure> failures = Collections.synchronizedList(new ArrayList<>());
+
+    /** 是否全部提交 */
+    @Getter
+    private volatile boolean submitted;
+
+    /** 耗时<br>完成前为负数 */
+    private volatile long spend = -1;
+
+    /**
+     * 读取已提交分段数量
+     *
+     * @return 已提交分段数量
+     */
+    public int getSubmittedChunks() {
+        return submittedChunks.get();
+    }
+
+    /**
+     * 读取已完成分段数量
+     *
+     * @return 已完成分段数量
+     */
+    public int getCompletedChunks() {
+        return completedChunks.get();
+    }
+
+    /**
+     * 读取重试次数
+     *
+     * @return 重试次数
+     */
+    public int getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * 读取已导入记录数量
+     *
+     * @return 已导入记录数量
+     */
+    public long getSucceeded() {
+        return succeeded.get();
+    }
+
+    /**
+     * 读取失败记录数量
+     *
+     * @return 失败记录数量
+     */
+    public long getFailed() {
+        synchronized (failures) {
+            return failures.stream().mapToLong(Failure::getSize).sum();
+        }
+    }
+
+    /**
+     * 读取失败分段
+     *
+     * @return 失败分段列表
+     */
+    public List<Failure> getFailures() {
+        synchronized (failures) {
+            return new ArrayList<>(failures);
+        }
+    }
+
+    /**
+     * 是否全部成功
+     *
+     * @return 判断结果
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * 读取耗时
+     *
+     * @return 耗时<br>单位：毫秒
+     */
+    public long getSpend() {
+        return spend < 0 ? timer.getSpend() : spend;
+    }
+
+    /**
+     * 提交分段
+     *
+     * @return 分段序号
+     */
+    int submit() {
+        return submittedChunks.getAndIncrement();
+    }
+
+    /** 全部分段已提交 */
+    void markSubmitted() {
+        this.submitted = true;
+    }
+
+    /** 全部分段已完成 */
+    void finish() {
+        this.spend = timer.getSpend();
+    }
+
+    /** 记录重试 */
+    void retry() {
+        retries.incrementAndGet();
+    }
+
+    /**
+     * 记录分段成功
+     *
+     * @param count 导入数量
+     */
+    void succeed(long count) {
+        succeeded.addAndGet(count);
+        completedChunks.incrementAndGet();
+    }
+
+    /**
+     * 记录分段失败
+     *
+     * @param failure 失败分段
+     */
+    void fail(Failure failure) {
+        failures.add(failure);
+        completedChunks.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkImportResult{chunks=" + getCompletedChunks() + "/" + getSubmittedChunks() + ", succeeded=" + getSucceeded() + ", failed=" + getFailed() + ", retries=" + getRetries() + ", spend=" + getSpend() + "ms}";
+    }
+
+    /**
+     * 失败分段
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    @Getter
+    public static final class Failure {
+
+        /** 分段序号 */
+        private final int index;
+
+        /** 分段实体 */
+        private final List<?> entities;
+
+        /** 最后一次异常 */
+        private final Exception exception;
+
+        /**
+         * 构造函数
+         *
+         * @param index 分段序号
+         * @param entities 分段实体
+         * @param exception 最后一次异常
+         */
+        Failure(int index, List<?> entities, Exception exception) {
+            this.index = index;
+            this.entities = entities;
+            this.exception = exception;
+        }
+
+        /**
+         * 读取分段大小
+         *
+         * @return 分段大小
+         */
+        public int getSize() {
+            return entities.size();
+        }
+    }
+}
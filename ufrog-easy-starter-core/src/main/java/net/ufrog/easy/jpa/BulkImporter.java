@@ -0,0 +1,243 @@
+package net.ufrog.easy.jpa;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ufrog.easy.ApplicationRequest;
+import net.ufrog.easy.configurations.properties.JpaProperties;
+import net.ufrog.easy.exceptions.CommonException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 批量导入器<br>
+ * 将输入按分段大小拆分后并行插入，每个分段使用独立事务并在失败时重试，同时执行的分段数量不超过并行度，
+ * 各分段在插入时一次性预分配整段编号，分段之间不争用编号生成
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Slf4j
+public class BulkImporter implements AutoCloseable {
+
+    private static final long RETRY_BACKOFF_MILLIS = 100L;
+
+    /** 事务模版 */
+    private final TransactionTemplate transactionTemplate;
+
+    /** 执行器工厂 */
+    private final Supplier<ExecutorService> executorSupplier;
+
+    /** 执行器<br>首次导入时创建 */
+    private volatile ExecutorService executor;
+
+    /** 批量导入参数 */
+    private final JpaProperties.Bulk bulk;
+
+    /**
+     * 构造函数
+     *
+     * @param transactionManager 事务管理器
+     * @param executor 执行器
+     * @param bulk 批量导入参数
+     */
+    public BulkImporter(PlatformTransactionManager transactionManager, ExecutorService executor, JpaProperties.Bulk bulk) {
+        this(transactionManager, () -> executor, bulk);
+    }
+
+    /**
+     * 构造函数<br>执行器在首次导入时创建，未使用时不占用线程
+     *
+     * @param transactionManager 事务管理器
+     * @param executorSupplier 执行器工厂
+     * @param bulk 批量导入参数
+     */
+    public BulkImporter(PlatformTransactionManager transactionManager, Supplier<ExecutorService> executorSupplier, JpaProperties.Bulk bulk) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executorSupplier = executorSupplier;
+        this.bulk = bulk;
+    }
+
+    /**
+     * 批量导入
+     *
+     * @param service 实体服务
+     * @param entities 实体迭代
+     * @return 导入结果
+     * @param <T> 实体泛型
+     * @param <S> 实体泛型
+     */
+    public <T extends EasyModel, S extends T> BulkImportResult importAll(EasyService<T> service, Iterable<S> entities) {
+        return importAll(service, entities, null);
+    }
+
+    /**
+     * 批量导入
+     *
+     * @param service 实体服务
+     * @param entities 实体流
+     * @param progress 进度回调<br>每个分段完成后在执行线程中调用
+     * @return 导入结果
+     * @param <T> 实体泛型
+     * @param <S> 实体泛型
+     */
+    public <T extends EasyModel, S extends T> BulkImportResult importAll(EasyService<T> service, Stream<S> entities, Consumer<BulkImportResult> progress) {
+        try (entities) {
+            return importAll(service, entities::iterator, progress);
+        }
+    }
+
+    /**
+     * 批量导入<br>调用线程负责拆分输入，已提交未完成的分段达到并行度时等待
+     *
+     * @param service 实体服务
+     * @param entities 实体迭代
+     * @param progress 进度回调<br>每个分段完成后在执行线程中调用
+     * @return 导入结果
+     * @param <T> 实体泛型
+     * @param <S> 实体泛型
+     */
+    public <T extends EasyModel, S extends T> BulkImportResult importAll(EasyService<T> service, Iterable<S> entities, Consumer<BulkImportResult> progress) {
+        BulkImportResult result = new BulkImportResult();
+        Semaphore semaphore = new Semaphore(bulk.getParallelism());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        List<S> chunk = new ArrayList<>(bulk.getChunkSize());
+
+        // Partition input and submit chunks
+        log.info("Start bulk import with chunk size {} and parallelism {}...", bulk.getChunkSize(), bulk.getParallelism());
+        try {
+            for (S entity : entities) {
+                chunk.add(entity);
+                if (chunk.size() == bulk.getChunkSize()) {
+                    futures.add(submit(service, chunk, result, semaphore, progress));
+                    chunk = new ArrayList<>(bulk.getChunkSize());
+                }
+            }
+            if (!chunk.isEmpty()) futures.add(submit(service, chunk, result, semaphore, progress));
+            result.markSubmitted();
+        } finally {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            result.finish();
+        }
+        log.info("Complete bulk import, {}.", result);
+        return result;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) executor.shutdown();
+    }
+
+    /**
+     * 读取执行器<br>首次调用时创建
+     *
+     * @return 执行器
+     */
+    private ExecutorService getExecutor() {
+        ExecutorService result = executor;
+        if (result == null) {
+            synchronized (this) {
+                if (executor == null) executor = executorSupplier.get();
+                result = executor;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 提交分段
+     *
+     * @param service 实体服务
+     * @param chunk 分段实体
+     * @param result 导入结果
+     * @param semaphore 并行信号量
+     * @param progress 进度回调
+     * @return 分段任务
+     * @param <T> 实体泛型
+     * @param <S> 实体泛型
+     */
+    private <T extends EasyModel, S extends T> CompletableFuture<Void> submit(EasyService<T> service, List<S> chunk, BulkImportResult result, Semaphore semaphore, Consumer<BulkImportResult> progress) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw CommonException.newInstance(e);
+        }
+
+        int index = result.submit();
+        try {
+            return CompletableFuture.supplyAsync(ApplicationRequest.propagate(() -> {
+                try {
+                    runChunk(service, index, chunk, result);
+                    if (progress != null) notify(progress, result);
+                    return null;
+                } finally {
+                    semaphore.release();
+                }
+            }), getExecutor());
+        } catch (RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 回调进度<br>回调异常不影响导入
+     *
+     * @param progress 进度回调
+     * @param result 导入结果
+     */
+    private void notify(Consumer<BulkImportResult> progress, BulkImportResult result) {
+        try {
+            progress.accept(result);
+        } catch (RuntimeException e) {
+            log.warn("Failed to notify bulk import progress: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 执行分段<br>失败时按重试次数重新执行，仍失败时记录失败分段
+     *
+     * @param service 实体服务
+     * @param index 分段序号
+     * @param chunk 分段实体
+     * @param result 导入结果
+     * @param <T> 实体泛型
+     * @param <S> 实体泛型
+     */
+    private <T extends EasyModel, S extends T> void runChunk(EasyService<T> service, int index, List<S> chunk, BulkImportResult result) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                Long count = transactionTemplate.execute(status -> service.persistInBatch(chunk));
+                result.succeed(count == null ? 0 : count);
+                log.debug("Imported chunk {} with {} record(s).", index, count);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= bulk.getRetries()) {
+                    log.error("Failed to import chunk {} with {} record(s) after {} attempt(s).", index, chunk.size(), attempt + 1, e);
+                    result.fail(new BulkImportResult.Failure(index, chunk, e));
+                    return;
+                }
+                log.warn("Failed to import chunk {}, retry {}/{}: {}", index, attempt + 1, bulk.getRetries(), e.getMessage());
+                result.retry();
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS * (attempt + 1));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    result.fail(new BulkImportResult.Failure(index, chunk, e));
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package net.ufrog.easy.jpa;
+
+import net.ufrog.easy.exceptions.InvalidRequestException;
+
+/**
+ * 分页总数统计模式
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public enum CountMode {
+
+    /** 精确统计 */
+    EXACT,
+
+    /** 不统计<br>仅返回是否有下一页 */
+    NONE,
+
+    /** 缓存统计<br>按查询条件缓存精确总数 */
+    CACHED,
+
+    /** 估算统计<br>无查询条件时读取数据库统计信息，否则退化为缓存统计 */
+    ESTIMATED;
+
+    /**
+     * 解析统计模式<br>兼容 true/false
+     *
+     * @param value 参数值
+     * @return 统计模式
+     * @throws InvalidRequestException 无法识别的统计模式
+     */
+    public static CountMode parse(String value) {
+        if (value == null || value.isBlank()) return null;
+        if ("true".equalsIgnoreCase(value)) return EXACT;
+        if ("false".equalsIgnoreCase(value)) return NONE;
+        for (CountMode countMode : values()) {
+            if (countMode.name().equalsIgnoreCase(value.trim())) return countMode;
+        }
+        throw new InvalidRequestException(CountMode.class, "parse", value);
+    }
+}
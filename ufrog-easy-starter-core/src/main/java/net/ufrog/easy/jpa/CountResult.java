@@ -0,0 +1,32 @@
+package net.ufrog.easy.jpa;
+
+import lombok.Getter;
+
+/**
+ * 统计结果<br>
+ * 实体数量及实际使用的统计模式，估算统计退化为缓存统计时统计模式为缓存统计
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Getter
+public class CountResult {
+
+    /** 数量<br>不统计时为 -1 */
+    private final long count;
+
+    /** 实际统计模式 */
+    private final CountMode countMode;
+
+    /**
+     * 构造函数
+     *
+     * @param count 数量
+     * @param countMode 实际统计模式
+     */
+    public CountResult(long count, CountMode countMode) {
+        this.count = count;
+        this.countMode = countMode;
+    }
+}
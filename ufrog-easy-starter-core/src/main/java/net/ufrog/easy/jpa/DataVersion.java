@@ -0,0 +1,34 @@
+package net.ufrog.easy.jpa;
+
+import lombok.Getter;
+
+import java.util.Date;
+
+/**
+ * 数据版本<br>
+ * 查询条件下实体的最大更新时间及数量，任一实体更新、新增或删除时至少一项发生变化，用于条件请求校验
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Getter
+public class DataVersion {
+
+    /** 最后修改时间<br>无数据时为空 */
+    private final Date lastModified;
+
+    /** 数量 */
+    private final long count;
+
+    /**
+     * 构造函数
+     *
+     * @param lastModified 最后修改时间
+     * @param count 数量
+     */
+    public DataVersion(Date lastModified, long count) {
+        this.lastModified = lastModified;
+        this.count = count;
+    }
+}
@@ -0,0 +1,38 @@
+package net.ufrog.easy.jpa;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.auditing.AuditingHandler;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 审计监听器<br>批量审计期间已直接写入审计字段的实体不再经过审计处理
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class EasyAuditingEntityListener extends AuditingEntityListener {
+
+    @Override
+    @Autowired
+    public void setAuditingHandler(ObjectFactory<AuditingHandler> auditingHandler) {
+        super.setAuditingHandler(auditingHandler);
+    }
+
+    @Override
+    @PrePersist
+    public void touchForCreate(Object target) {
+        if (target instanceof EasyModel model && BatchAuditor.getCurrent().filter(s -> s.isCreateStamped(model)).isPresent()) return;
+        super.touchForCreate(target);
+    }
+
+    @Override
+    @PreUpdate
+    public void touchForUpdate(Object target) {
+        if (target instanceof EasyModel model && BatchAuditor.getCurrent().filter(s -> s.isUpdateStamped(model)).isPresent()) return;
+        super.touchForUpdate(target);
+    }
+}
@@ -13,7 +13,6 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.domain.Persistable;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -24,13 +23,13 @@ import java.util.Date;
  * 基础模型
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-12
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Getter
 @Setter
 @MappedSuperclass
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners(EasyAuditingEntityListener.class)
 public class EasyModel implements Serializable, Persistable<Long> {
 
     public static final String[] AUDITOR_FIELDS = ObjectUtil.getAllDeclaredFields(EasyModel.class).stream().map(Field::getName).toArray(String[]::new);
@@ -1,21 +1,27 @@
 package net.ufrog.easy.jpa;
 
+import com.querydsl.core.types.FactoryExpression;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 基础业务接口
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-13
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 public interface EasyService<T extends EasyModel> {
@@ -139,6 +145,92 @@ public interface EasyService<T extends EasyModel> {
      */
     Page<T> findAll(Predicate predicate, Pageable pageable);
 
+    /**
+     * 按条件查询限定数量的实体<br>不执行总数统计
+     *
+     * @param predicate 查询条件
+     * @param sort 排序
+     * @param limit 最大数量
+     * @return 实体列表
+     */
+    List<T> findAll(Predicate predicate, Sort sort, int limit);
+
+    /**
+     * 按条件查询实体分片<br>多读取一条记录判断是否有下一页，不执行总数统计
+     *
+     * @param predicate 查询条件
+     * @param pageable 分页
+     * @return 实体分片
+     */
+    Slice<T> findSlice(Predicate predicate, Pageable pageable);
+
+    /**
+     * 按条件投影查询<br>仅读取投影所需的列，结果不受持久化上下文管理
+     *
+     * @param predicate 查询条件
+     * @param sort 排序
+     * @param projection 投影表达式
+     * @return 投影结果列表
+     * @param <R> 投影结果泛型
+     */
+    <R> List<R> findAll(Predicate predicate, Sort sort, FactoryExpression<R> projection);
+
+    /**
+     * 按条件投影分页查询<br>仅读取投影所需的列，结果不受持久化上下文管理
+     *
+     * @param predicate 查询条件
+     * @param pageable 分页
+     * @param projection 投影表达式
+     * @return 投影结果分页
+     * @param <R> 投影结果泛型
+     */
+    <R> Page<R> findAll(Predicate predicate, Pageable pageable, FactoryExpression<R> projection);
+
+    /**
+     * 按条件投影查询分片<br>多读取一条记录判断是否有下一页，不执行总数统计
+     *
+     * @param predicate 查询条件
+     * @param pageable 分页
+     * @param projection 投影表达式
+     * @return 投影结果分片
+     * @param <R> 投影结果泛型
+     */
+    <R> Slice<R> findSlice(Predicate predicate, Pageable pageable, FactoryExpression<R> projection);
+
+    /**
+     * 按条件流式查询实体<br>
+     * 基于只读前向游标逐行读取，已处理实体会被移出持久化上下文<br>
+     * 流必须在调用方的只读事务内消费并关闭
+     *
+     * @param predicate 查询条件
+     * @param sort 排序
+     * @return 实体流
+     */
+    Stream<T> stream(Predicate predicate, Sort sort);
+
+    /**
+     * 按条件逐个处理实体<br>
+     * 基于只读前向游标逐行读取，每处理分段大小的实体后将其移出持久化上下文
+     *
+     * @param predicate 查询条件
+     * @param consumer 实体消费
+     * @param chunkSize 分段大小<br>同时作为抓取大小
+     * @return 处理数量
+     */
+    long forEach(Predicate predicate, Consumer<T> consumer, int chunkSize);
+
+    /**
+     * 按条件及排序逐个处理实体<br>
+     * 基于只读前向游标逐行读取，每处理分段大小的实体后将其移出持久化上下文
+     *
+     * @param predicate 查询条件
+     * @param sort 排序
+     * @param consumer 实体消费
+     * @param chunkSize 分段大小<br>同时作为抓取大小
+     * @return 处理数量
+     */
+    long forEach(Predicate predicate, Sort sort, Consumer<T> consumer, int chunkSize);
+
     /**
      * 统计实体数量
      *
@@ -162,6 +254,48 @@ public interface EasyService<T extends EasyModel> {
      */
     long count(Predicate predicate);
 
+    /**
+     * 按编号查询更新时间<br>仅查询更新时间列，用于条件请求校验
+     *
+     * @param id 编号
+     * @return 更新时间
+     */
+    Optional<Date> findUpdateTime(long id);
+
+    /**
+     * 读取存在的编号<br>仅查询编号列并按分段大小拆分，不包含已逻辑删除的数据
+     *
+     * @param ids 编号迭代
+     * @return 存在的编号列表
+     */
+    List<Long> findExistingIds(Iterable<Long> ids);
+
+    /**
+     * 按条件查询数据版本<br>一次查询最大更新时间及数量，用于条件请求校验
+     *
+     * @param predicate 查询条件
+     * @return 数据版本
+     */
+    DataVersion findVersion(Predicate predicate);
+
+    /**
+     * 按条件及统计模式统计实体数量
+     *
+     * @param predicate 查询条件
+     * @param countMode 统计模式
+     * @return 实体数量<br>不统计时返回 -1
+     */
+    long count(Predicate predicate, CountMode countMode);
+
+    /**
+     * 按条件及统计模式统计实体数量<br>同时返回实际使用的统计模式
+     *
+     * @param predicate 查询条件
+     * @param countMode 统计模式
+     * @return 统计结果
+     */
+    CountResult countTotal(Predicate predicate, CountMode countMode);
+
     /**
      * 判断实体是否存在
      *
@@ -215,7 +349,8 @@ public interface EasyService<T extends EasyModel> {
     <S extends T> List<S> saveAll(Iterable<S> entities);
 
     /**
-     * 批量保存所有实体
+     * 批量保存所有实体<br>
+     * 按批处理大小分段冲刷并将已保存的实体移出持久化上下文，返回的实体均为游离状态
      *
      * @param entities 实体列表
      * @return 实体列表
@@ -223,6 +358,28 @@ public interface EasyService<T extends EasyModel> {
      */
     <S extends T> List<S> saveInBatch(Iterable<S> entities);
 
+    /**
+     * 批量插入所有实体<br>
+     * 仅执行插入语义，按批处理大小分段冲刷并将已插入的实体移出持久化上下文，不保留实体引用，适合大数据量导入
+     *
+     * @param entities 实体迭代
+     * @return 插入数量
+     * @param <S> 实体泛型
+     */
+    <S extends T> long persistInBatch(Iterable<S> entities);
+
+    /**
+     * 批量插入或更新所有实体<br>
+     * 按冲突字段分段查询已存在的实体，已存在时复制字段并更新，已逻辑删除的实体同时恢复，否则插入；按批处理大小分段冲刷并将已保存的实体移出持久化上下文；
+     * 冲突字段值重复时抛出无效参数异常
+     *
+     * @param entities 实体迭代
+     * @param conflictKey 冲突字段<br>须为唯一且非空的基础属性
+     * @return 保存数量
+     * @param <S> 实体泛型
+     */
+    <S extends T> long upsertAll(Iterable<S> entities, String conflictKey);
+
     /**
      * 更新实体
      *
@@ -234,6 +391,41 @@ public interface EasyService<T extends EasyModel> {
      */
     <S extends T> S update(long id, S entity, String... excludeFields);
 
+    /**
+     * 批量更新实体<br>在同一事务中按分段加载实体、复制字段并批量保存，不存在或已逻辑删除的编号忽略
+     *
+     * @param entities 编号与实体映射
+     * @param excludeFields 排除字段
+     * @return 编号与更新后实体映射<br>按传入顺序排列，仅包含已更新的数据
+     * @param <S> 实体泛型
+     */
+    <S extends T> Map<Long, T> updateInBatch(Map<Long, S> entities, String... excludeFields);
+
+    /**
+     * 部分更新实体<br>
+     * 仅更新实体中的非空字段及指定字段，并填写更新用户及时间；默认直接执行一条更新语句，不加载实体且不经过持久化上下文，
+     * 当 {@link #isLoadBeforePatch()} 为真时改为加载实体后复制字段并保存
+     *
+     * @param id 编号
+     * @param entity 实体
+     * @param includeFields 即使为空也需要更新的字段
+     * @return 更新字段内容
+     * @param <S> 实体泛型
+     */
+    <S extends T> Map<String, Object> patch(long id, S entity, String... includeFields);
+
+    /**
+     * 按字段内容部分更新实体<br>
+     * 仅更新给定字段并填写更新用户及时间，实体声明版本属性时版本加一；编号、版本、审计字段及非基础属性忽略；
+     * 字段内容转换为属性类型，无法转换时抛出参数异常；
+     * 持久化上下文中已加载的同一实体在更新后刷新
+     *
+     * @param id 编号
+     * @param values 字段内容<br>值为空时更新为空
+     * @return 实际更新的字段内容
+     */
+    Map<String, Object> patch(long id, Map<String, Object> values);
+
     /**
      * 通过编号删除实体
      *
@@ -263,7 +455,8 @@ public interface EasyService<T extends EasyModel> {
     void logicalDelete(T entity);
 
     /**
-     * 删除所有实体
+     * 删除所有实体<br>
+     * 逐个删除实体，触发级联及实体回调
      *
      * @param entities 实体列表
      * @param <S> 实体泛型
@@ -271,7 +464,8 @@ public interface EasyService<T extends EasyModel> {
     <S extends T> void deleteAll(Iterable<S> entities);
 
     /**
-     * 逻辑删除所有实体
+     * 逻辑删除所有实体<br>
+     * 使用集合语句批量更新，已加载的实体从数据库刷新
      *
      * @param entities 实体列表
      * @param <S> 实体泛型
@@ -279,12 +473,40 @@ public interface EasyService<T extends EasyModel> {
     <S extends T> void logicalDeleteAll(Iterable<S> entities);
 
     /**
-     * 批量删除实体
+     * 批量删除实体<br>
+     * 使用集合语句批量删除，不触发级联，已加载的实体移出持久化上下文
      *
      * @param entities 实体列表
      */
     void deleteInBatch(Iterable<T> entities);
 
+    /**
+     * 通过编号批量删除实体<br>
+     * 使用集合语句批量删除，不触发级联，已加载的实体移出持久化上下文
+     *
+     * @param ids 编号迭代
+     * @return 删除数量
+     */
+    long deleteInBatchById(Iterable<Long> ids);
+
+    /**
+     * 通过编号批量逻辑删除实体<br>
+     * 使用集合语句批量更新，已加载的实体从数据库刷新
+     *
+     * @param ids 编号迭代
+     * @return 删除数量
+     */
+    long logicalDeleteInBatchById(Iterable<Long> ids);
+
+    /**
+     * 通过编号批量逻辑删除存在的实体<br>
+     * 在同一事务中锁定未删除的数据后逻辑删除，用于按编号返回删除结果
+     *
+     * @param ids 编号迭代
+     * @return 已删除的编号列表
+     */
+    List<Long> logicalDeleteExistingInBatchById(Iterable<Long> ids);
+
     /** 冲刷 */
     void flush();
 
@@ -309,6 +531,13 @@ public interface EasyService<T extends EasyModel> {
      */
     JPAQueryFactory getJPAQueryFactory();
 
+    /**
+     * 读取异步业务<br>各读取方法在独立的只读事务中异步执行，返回的实体为游离状态
+     *
+     * @return 异步业务
+     */
+    AsyncEasyService<T> async();
+
     /**
      * 保存前回调
      *
@@ -325,6 +554,33 @@ public interface EasyService<T extends EasyModel> {
      */
     default <S extends T> void onAfterSave(S entity) {}
 
+    /**
+     * 部分更新前是否需要加载实体<br>
+     * 回调需要读取原有数据或依赖保存回调时返回真；为假时部分更新直接执行更新语句，不调用保存前后回调。
+     * {@link EasyServiceImpl} 在重写保存前后回调时默认返回真
+     *
+     * @return 判断结果
+     */
+    default boolean isLoadBeforePatch() {
+        return false;
+    }
+
+    /**
+     * 部分更新前回调<br>可增减更新字段内容
+     *
+     * @param id 编号
+     * @param values 更新字段内容
+     */
+    default void onBeforePatch(long id, Map<String, Object> values) {}
+
+    /**
+     * 部分更新后回调
+     *
+     * @param id 编号
+     * @param values 更新字段内容
+     */
+    default void onAfterPatch(long id, Map<String, Object> values) {}
+
     /**
      * 删除前回调
      *
@@ -338,4 +594,22 @@ public interface EasyService<T extends EasyModel> {
      * @param id 编号
      */
     default void onAfterDelete(long id) {}
+
+    /**
+     * 批量删除前回调<br>默认逐个调用删除前回调
+     *
+     * @param ids 编号列表
+     */
+    default void onBeforeDeleteInBatch(List<Long> ids) {
+        ids.forEach(this::onBeforeDelete);
+    }
+
+    /**
+     * 批量删除后回调<br>默认逐个调用删除后回调
+     *
+     * @param ids 编号列表
+     */
+    default void onAfterDeleteInBatch(List<Long> ids) {
+        ids.forEach(this::onAfterDelete);
+    }
 }
@@ -1,26 +1,64 @@
 package net.ufrog.easy.jpa;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.FactoryExpression;
+import com.querydsl.core.types.Path;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.PathBuilderFactory;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.querydsl.jpa.impl.JPAUpdateClause;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
 import lombok.extern.slf4j.Slf4j;
+import net.ufrog.easy.caches.CacheUtil;
+import net.ufrog.easy.configurations.properties.JpaProperties;
+import net.ufrog.easy.exceptions.CommonException;
 import net.ufrog.easy.exceptions.DataNotFoundException;
-import net.ufrog.easy.utils.ArrayUtil;
-import net.ufrog.easy.utils.CollectionUtil;
-import net.ufrog.easy.utils.DictUtil;
-import net.ufrog.easy.utils.ObjectUtil;
+import net.ufrog.easy.exceptions.InvalidArgumentException;
+import net.ufrog.easy.jpa.query.ScrollSpliterator;
+import net.ufrog.easy.utils.*;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.repository.support.Querydsl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  *
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-13
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Slf4j
@@ -39,6 +77,36 @@ public class EasyServiceImpl<T extends EasyModel> implements EasyService<T> {
     /** 审计识别 */
     private AuditorAware<Long> auditorAware;
 
+    /** 持久化参数 */
+    private JpaProperties jpaProperties;
+
+    /** 批处理大小 */
+    private Integer batchSize;
+
+    /** 实体类型 */
+    private Class<T> entityType;
+
+    /** 实体路径 */
+    private PathBuilder<T> entityPath;
+
+    /** 可部分更新的属性 */
+    private List<Attribute<?, ?>> patchAttributes;
+
+    /** 版本属性<br>未声明时为空 */
+    private Attribute<?, ?> versionAttribute;
+
+    /** 部分更新前是否需要加载实体 */
+    private Boolean loadBeforePatch;
+
+    /** 条件查询是否使用查询缓存 */
+    private Boolean queryCacheable;
+
+    /** 异步业务执行器 */
+    private AsyncServiceExecutor asyncServiceExecutor;
+
+    /** 异步业务 */
+    private AsyncEasyService<T> asyncService;
+
     @Override
     public T getOne(long id) {
         return getRepository().getReferenceById(id);
@@ -96,11 +164,13 @@ public class EasyServiceImpl<T extends EasyModel> implements EasyService<T> {
 
     @Override
     public List<T> findAll(Predicate predicate) {
+        if (isQueryCacheable()) return createCacheableQuery(predicate, null).fetch();
         return CollectionUtil.toArrayList(getRepository().findAll(predicate));
     }
 
     @Override
     public List<T> findAll(Predicate predicate, Sort sort) {
+        if (isQueryCacheable()) return createCacheableQuery(predicate, sort).fetch();
         return CollectionUtil.toArrayList(getRepository().findAll(predicate, sort));
     }
 
@@ -109,6 +179,71 @@ public class EasyServiceImpl<T extends EasyModel> implements EasyService<T> {
         return getRepository().findAll(predicate, pageable);
     }
 
+    @Override
+    public List<T> findAll(Predicate predicate, Sort sort, int limit) {
+        JPAQuery<T> query = getJPAQueryFactory().selectFrom(getEntityPath()).where(predicate).limit(limit);
+        if (sort != null) new Querydsl(getEntityManager(), getEntityPath()).applySorting(sort, query);
+        return query.fetch();
+    }
+
+    @Override
+    public Slice<T> findSlice(Predicate predicate, Pageable pageable) {
+        return findSlice(getJPAQueryFactory().selectFrom(getEntityPath()).where(predicate), pageable);
+    }
+
+    @Override
+    public <R> List<R> findAll(Predicate predicate, Sort sort, FactoryExpression<R> projection) {
+        JPAQuery<R> query = getJPAQueryFactory().select(projection).from(getEntityPath()).where(predicate);
+        if (sort != null) new Querydsl(getEntityManager(), getEntityPath()).applySorting(sort, query);
+        return query.fetch();
+    }
+
+    @Override
+    public <R> Page<R> findAll(Predicate predicate, Pageable pageable, FactoryExpression<R> projection) {
+        JPAQuery<R> query = getJPAQueryFactory().select(projection).from(getEntityPath()).where(predicate);
+        new Querydsl(getEntityManager(), getEntityPath()).applyPagination(pageable, query);
+        return PageableExecutionUtils.getPage(query.fetch(), pageable, () -> count(predicate));
+    }
+
+    @Override
+    public <R> Slice<R> findSlice(Predicate predicate, Pageable pageable, FactoryExpression<R> projection) {
+        return findSlice(getJPAQueryFactory().select(projection).from(getEntityPath()).where(predicate), pageable);
+    }
+
+    @Override
+    public Stream<T> stream(Predicate predicate, Sort sort) {
+        Session session = getEntityManager().unwrap(Session.class);
+        ScrollableResults<T> results = createScrollQuery(predicate, sort, jpaProperties.getFetchSize()).scroll(ScrollMode.FORWARD_ONLY);
+        return StreamSupport.stream(new ScrollSpliterator<>(session, results), false).onClose(results::close);
+    }
+
+    @Override
+    public long forEach(Predicate predicate, Consumer<T> consumer, int chunkSize) {
+        return forEach(predicate, null, consumer, chunkSize);
+    }
+
+    @Override
+    public long forEach(Predicate predicate, Sort sort, Consumer<T> consumer, int chunkSize) {
+        Session session = getEntityManager().unwrap(Session.class);
+        List<T> chunk = new ArrayList<>(chunkSize);
+        long total = 0;
+
+        // Scroll and detach processed entities chunk by chunk
+        try (ScrollableResults<T> results = createScrollQuery(predicate, sort, chunkSize).scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                T entity = results.get();
+                consumer.accept(entity);
+                chunk.add(entity);
+                if (chunk.size() == chunkSize) {
+                    total += detach(session, chunk);
+                }
+            }
+            total += detach(session, chunk);
+        }
+        log.debug("Processed {} record(s) of {} by scrolling.", total, getEntityType().getSimpleName());
+        return total;
+    }
+
     @Override
     public long count() {
         return getRepository().count();
@@ -124,6 +259,43 @@ public class EasyServiceImpl<T extends EasyModel> implements EasyService<T> {
         return getRepository().count(predicate);
     }
 
+    @Override
+    public Optional<Date> findUpdateTime(long id) {
+        return Optional.ofNullable(getJPAQueryFactory().select(getUpdateTimePath()).from(getEntityPath()).where(getIdPath().eq(id)).fetchOne());
+    }
+
+    @Override
+    public List<Long> findExistingIds(Iterable<Long> ids) {
+        List<Long> list = new ArrayList<>();
+        for (List<Long> chunk : CollectionUtil.partition(toDistinctList(ids), jpaProperties.getInClauseSize())) {
+            list.addAll(getJPAQueryFactory().select(getIdPath()).from(getEntityPath()).where(getIdPath().in(chunk), getEntityPath().getString("isDeleted").eq(DictUtil.Bool.FALSE)).fetch());
+        }
+        return list;
+    }
+
+    @Override
+    public DataVersion findVersion(Predicate predicate) {
+        Tuple tuple = getJPAQueryFactory().select(getUpdateTimePath().max(), getIdPath().count()).from(getEntityPath()).where(predicate).fetchOne();
+        return tuple == null ? new DataVersion(null, 0) : new DataVersion(tuple.get(0, Date.class), Optional.ofNullable(tuple.get(1, Long.class)).orElse(0L));
+    }
+
+    @Override
+    public long count(Predicate predicate, CountMode countMode) {
+        return countTotal(predicate, countMode).getCount();
+    }
+
+    @Override
+    public CountResult countTotal(Predicate predicate, CountMode countMode) {
+        return switch (countMode == null ? CountMode.EXACT : countMode) {
+            case EXACT -> new CountResult(count(predicate), CountMode.EXACT);
+            case NONE -> new CountResult(-1, CountMode.NONE);
+            case CACHED -> new CountResult(countInCache(predicate), CountMode.CACHED);
+            case ESTIMATED -> (isEmpty(predicate) ? estimateCount() : Optional.<Long>empty())
+                    .map(v -> new CountResult(v, CountMode.ESTIMATED))
+                    .orElseGet(() -> new CountResult(countInCache(predicate), CountMode.CACHED));
+        };
+    }
+
     @Override
     public boolean exists(long id) {
         return getRepository().existsById(id);
@@ -170,32 +342,37 @@ public class EasyServiceImpl<T extends EasyModel> implements EasyService<T> {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public <S extends T> List<S> saveInBatch(Iterable<S> entities) {
-        int batchSize = 2000;
-        AtomicInteger counter = new AtomicInteger(0);
-        List<S> list = Collections.synchronizedList(new ArrayList<>(batchSize));
-        List<S> temp = Collections.synchronizedList(new ArrayList<>(batchSize));
+        List<S> list = new ArrayList<>();
+        saveInBatch(entities, false, list::add);
+        return list;
+    }
 
-        // Batch save
-        log.info("Start data saving...");
-        entities.forEach(e -> {
-            onBeforeSave(e);
-            temp.add(e);
-            if (counter.incrementAndGet() == batchSize) {
-                list.addAll(saveList(temp));
-                temp.clear();
-                counter.set(0);
-                getRepository().flush();
-                log.debug("Saved and flushed {} records.", batchSize);
-            }
-        });
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public <S extends T> long persistInBatch(Iterable<S> entities) {
+        return saveInBatch(entities, true, null);
+    }
 
-        // Save rest entities
-        if (!temp.isEmpty()) {
-            list.addAll(saveList(temp));
-            log.debug("Saved and flushed last {} record(s).", temp.size());
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public <S extends T> long upsertAll(Iterable<S> entities, String conflictKey) {
+        int batchSize = getBatchSize();
+        Session session = getEntityManager().unwrap(Session.class);
+        Integer jdbcBatchSize = session.getJdbcBatchSize();
+        DateTimeUtil.Timer timer = new DateTimeUtil.Timer();
+        long total;
+
+        // Flush pending changes before saved chunks are detached
+        log.info("Start data upserting by {} with batch size {}...", conflictKey, batchSize);
+        session.flush();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            total = BatchAuditor.with(this::getCurrentAuditor, () -> SequenceIDGenerator.withAssigned(batchSize, () -> upsertInChunks(session, entities, conflictKey, batchSize)));
+        } finally {
+            session.setJdbcBatchSize(jdbcBatchSize);
         }
-        log.info("Complete data saving, total {} record(s) saved.", list.size());
-        return list;
+        log.info("Complete data upserting, total {} record(s) saved in {}, {} record(s)/s.", total, timer.getSpendString(), total * 1000 / Math.max(timer.getSpend(), 1));
+        return total;
     }
 
     @Override
@@ -209,6 +386,81 @@ public class EasyServiceImpl<T extends EasyModel> implements EasyService<T> {
                 .orElseThrow(() -> new DataNotFoundException(entity.getClass(), "id", id));
     }
 
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public <S extends T> Map<Long, T> updateInBatch(Map<Long, S> entities, String... excludeFields) {
+        List<String> lExclusion = ArrayUtil.isEmpty(excludeFields) ? ArrayUtil.toArrayList(EasyModel.AUDITOR_FIELDS) : ArrayUtil.toArrayList(excludeFields, EasyModel.AUDITOR_FIELDS);
+        String[] exclusions = lExclusion.toArray(String[]::new);
+        Map<Long, T> map = new LinkedHashMap<>();
+
+        // Load and save chunk by chunk so each chunk stays managed until it is flushed,
+        // copy lazily so changes are only written once together with the audit stamp
+        for (List<Long> chunk : CollectionUtil.partition(new ArrayList<>(entities.keySet()), Math.min(getBatchSize(), jpaProperties.getInClauseSize()))) {
+            Map<Long, T> mLoaded = new HashMap<>();
+            findAll(chunk).stream().filter(o -> DictUtil.Bool.FALSE.equals(o.getIsDeleted())).forEach(o -> mLoaded.put(o.getId(), o));
+            Iterable<T> copies = () -> chunk.stream().filter(mLoaded::containsKey).map(id -> ObjectUtil.copy(mLoaded.get(id), entities.get(id), true, false, exclusions)).iterator();
+            saveInBatch(copies, false, o -> map.put(o.getId(), o));
+        }
+        return map;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public <S extends T> Map<String, Object> patch(long id, S entity, String... includeFields) {
+        Map<String, ObjectUtil.ClassField> mClassField = ObjectUtil.getAllClassFields(entity.getClass());
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Attribute<?, ?> attribute : getPatchAttributes()) {
+            ObjectUtil.ClassField classField = mClassField.get(attribute.getName());
+            if (classField == null || !classField.isGettable()) continue;
+
+            Object value = classField.get(entity);
+            if (value != null || (includeFields != null && StringUtil.in(attribute.getName(), includeFields))) values.put(attribute.getName(), value);
+        }
+        return patch(id, values);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public Map<String, Object> patch(long id, Map<String, Object> fieldValues) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Attribute<?, ?> attribute : getPatchAttributes()) {
+            if (fieldValues.containsKey(attribute.getName())) values.put(attribute.getName(), toAttributeValue(attribute, fieldValues.get(attribute.getName())));
+        }
+        onBeforePatch(id, values);
+
+        // Load and save when hooks need the persistent state
+        if (isLoadBeforePatch()) {
+            T origin = findById(id).orElseThrow(() -> new DataNotFoundException(getEntityType(), "id", id));
+            Map<String, ObjectUtil.ClassField> mOriginClassField = ObjectUtil.getAllClassFields(origin.getClass());
+            values.forEach((k, v) -> mOriginClassField.get(k).set(origin, v));
+            save(origin);
+            onAfterPatch(id, values);
+            return values;
+        }
+
+        // Update changed columns and audit columns with single statement
+        PathBuilder<T> path = getEntityPath();
+        BatchAuditor.Stamp stamp = getAuditStamp();
+        JPAUpdateClause clause = getJPAQueryFactory().update(path)
+                .set(path.getNumber("updater", Long.class), stamp.getAuditor())
+                .set(path.getDate("updateTime", Date.class), stamp.getTime());
+        values.forEach((k, v) -> {
+            Path<Object> property = path.get(k);
+            if (v == null) {
+                clause.setNull(property);
+            } else {
+                clause.set(property, v);
+            }
+        });
+        setVersion(clause, stamp);
+        flush();
+        if (clause.where(getIdPath().eq(id)).execute() == 0) throw new DataNotFoundException(getEntityType(), "id", id);
+        getManaged(List.of(id)).forEach(getEntityManager()::refresh);
+        onAfterPatch(id, values);
+        log.debug("Patched {} field(s) of {} with id {}.", values.size(), getEntityType().getSimpleName(), id);
+        return values;
+    }
+
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void deleteById(long id) {
@@ -237,10 +489,11 @@ public class EasyServiceImpl<T extends EasyModel> implements EasyService<T> {
     @Transactional(rollbackFor = Exception.class)
     public void logicalDelete(T entity) {
         if (entity != null && entity.getId() != null) {
+            BatchAuditor.Stamp stamp = getAuditStamp();
             onBeforeDelete(entity.getId());
             entity.setIsDeleted(DictUtil.Bool.TRUE);
-            entity.setDeleter(auditorAware.getCurrentAuditor().orElse(EasyModel.NULL));
-            entity.setDeleteTime(new Date());
+            entity.setDeleter(stamp.getAuditor());
+            entity.setDeleteTime(stamp.getTime());
             save(entity);
             onAfterDelete(entity.getId());
         }
@@ -255,13 +508,78 @@ public class EasyServiceImpl<T extends EasyModel> implements EasyService<T> {
     @Override
     @Transactional(rollbackFor = Exception.class)
     public <S extends T> void logicalDeleteAll(Iterable<S> entities) {
-        entities.forEach(this::logicalDelete);
+        logicalDeleteInBatchById(toIds(entities));
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public void deleteInBatch(Iterable<T> entities) {
+        deleteInBatchById(toIds(entities));
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public long deleteInBatchById(Iterable<Long> ids) {
+        List<Long> list = toDistinctList(ids);
+        if (list.isEmpty()) return 0;
+
+        // Delete by chunked id list
+        onBeforeDeleteInBatch(list);
+        flush();
+        long count = 0;
+        for (List<Long> chunk : CollectionUtil.partition(list, jpaProperties.getInClauseSize())) {
+            count += getJPAQueryFactory().delete(getEntityPath()).where(getIdPath().in(chunk)).execute();
+        }
+        // Deleted rows cannot be refreshed, loaded instances are detached instead
+        getManaged(list).forEach(getEntityManager()::detach);
+        onAfterDeleteInBatch(list);
+        log.debug("Deleted {} record(s) of {} in batch.", count, getEntityType().getSimpleName());
+        return count;
+    }
 
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public long logicalDeleteInBatchById(Iterable<Long> ids) {
+        List<Long> list = toDistinctList(ids);
+        if (list.isEmpty()) return 0;
+
+        // Logical delete by chunked id list
+        BatchAuditor.Stamp stamp = getAuditStamp();
+        PathBuilder<T> path = getEntityPath();
+        StringPath isDeleted = path.getString("isDeleted");
+        onBeforeDeleteInBatch(list);
+        flush();
+        long count = 0;
+        for (List<Long> chunk : CollectionUtil.partition(list, jpaProperties.getInClauseSize())) {
+            count += getJPAQueryFactory().update(path)
+                    .set(isDeleted, DictUtil.Bool.TRUE)
+                    .set(path.getNumber("deleter", Long.class), stamp.getAuditor())
+                    .set(path.getDate("deleteTime", Date.class), stamp.getTime())
+                    .set(path.getNumber("updater", Long.class), stamp.getAuditor())
+                    .set(path.getDate("updateTime", Date.class), stamp.getTime())
+                    .where(getIdPath().in(chunk), isDeleted.eq(DictUtil.Bool.FALSE))
+                    .execute();
+        }
+        getManaged(list).forEach(getEntityManager()::refresh);
+        onAfterDeleteInBatch(list);
+        log.debug("Logical deleted {} record(s) of {} in batch.", count, getEntityType().getSimpleName());
+        return count;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public List<Long> logicalDeleteExistingInBatchById(Iterable<Long> ids) {
+        List<Long> list = new ArrayList<>();
+
+        // Lock undeleted rows so the returned ids are exactly the ones deleted below
+        for (List<Long> chunk : CollectionUtil.partition(toDistinctList(ids), jpaProperties.getInClauseSize())) {
+            list.addAll(getJPAQueryFactory().select(getIdPath()).from(getEntityPath())
+                    .where(getIdPath().in(chunk), getEntityPath().getString("isDeleted").eq(DictUtil.Bool.FALSE))
+                    .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                    .fetch());
+        }
+        logicalDeleteInBatchById(list);
+        return list;
     }
 
     @Override
@@ -287,6 +605,66 @@ public class EasyServiceImpl<T extends EasyModel> implements EasyService<T> {
         return jpaQueryFactory;
     }
 
+    @Override
+    public AsyncEasyService<T> async() {
+        if (asyncService == null) {
+            if (asyncServiceExecutor == null) throw new CommonException("Cannot find async service executor for " + getEntityType().getName() + ".");
+            asyncService = new AsyncEasyService<>(this, asyncServiceExecutor);
+        }
+        return asyncService;
+    }
+
+    @Override
+    public boolean isLoadBeforePatch() {
+        if (loadBeforePatch == null) {
+            Class<?> type = ClassUtils.getUserClass(getClass());
+            loadBeforePatch = isOverridden(type, "onBeforeSave") || isOverridden(type, "onAfterSave");
+        }
+        return loadBeforePatch;
+    }
+
+    /**
+     * 读取实体类型
+     *
+     * @return 实体类型
+     */
+    public Class<T> getEntityType() {
+        if (entityType == null) {
+            entityType = ObjectUtil.cast(ResolvableType.forClass(EasyServiceImpl.class, getClass()).resolveGeneric(0));
+        }
+        return entityType;
+    }
+
+    /**
+     * 读取实体路径
+     *
+     * @return 实体路径
+     */
+    public PathBuilder<T> getEntityPath() {
+        if (entityPath == null) {
+            entityPath = new PathBuilderFactory().create(getEntityType());
+        }
+        return entityPath;
+    }
+
+    /**
+     * 读取编号路径
+     *
+     * @return 编号路径
+     */
+    public NumberPath<Long> getIdPath() {
+        return getEntityPath().getNumber("id", Long.class);
+    }
+
+    /**
+     * 读取更新时间路径
+     *
+     * @return 更新时间路径
+     */
+    public DateTimePath<Date> getUpdateTimePath() {
+        return getEntityPath().getDateTime("updateTime", Date.class);
+    }
+
     @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
     @Autowired
     public void setRepository(EasyRepository<T> repository) {
@@ -305,15 +683,472 @@ public class EasyServiceImpl<T extends EasyModel> implements EasyService<T> {
         this.auditorAware = auditorAware;
     }
 
+    @Autowired
+    public void setJpaProperties(JpaProperties jpaProperties) {
+        this.jpaProperties = jpaProperties;
+    }
+
+    @Autowired(required = false)
+    public void setAsyncServiceExecutor(AsyncServiceExecutor asyncServiceExecutor) {
+        this.asyncServiceExecutor = asyncServiceExecutor;
+    }
+
     /**
-     * 保存列表
+     * 读取批处理大小<br>优先使用 hibernate.jdbc.batch_size 配置
      *
-     * @param list 列表
-     * @param <S> 实体泛型
+     * @return 批处理大小
+     */
+    protected int getBatchSize() {
+        if (batchSize == null) {
+            Object value = getEntityManager().getEntityManagerFactory().getProperties().get(AvailableSettings.STATEMENT_BATCH_SIZE);
+            int size = (value == null) ? 0 : Integer.parseInt(value.toString());
+            batchSize = (size > 0) ? size : jpaProperties.getBatchSize();
+        }
+        return batchSize;
+    }
+
+    /**
+     * 读取当前审计用户
+     *
+     * @return 审计用户
+     */
+    private Long getCurrentAuditor() {
+        return auditorAware.getCurrentAuditor().orElse(EasyModel.NULL);
+    }
+
+    /**
+     * 读取审计<br>批量审计期间使用批量审计，否则即时解析
+     *
+     * @return 审计
+     */
+    private BatchAuditor.Stamp getAuditStamp() {
+        return BatchAuditor.getCurrent().orElseGet(() -> new BatchAuditor.Stamp(getCurrentAuditor(), new Date()));
+    }
+
+    /**
+     * 判断条件查询是否使用查询缓存<br>启用二级缓存及查询缓存且实体标注 {@link Cacheable} 时使用
+     *
+     * @return 判断结果
+     */
+    private boolean isQueryCacheable() {
+        if (queryCacheable == null) {
+            Cacheable cacheable = getEntityType().getAnnotation(Cacheable.class);
+            JpaProperties.Cache cache = jpaProperties.getCache();
+            queryCacheable = (cacheable != null && cacheable.value() && cache.isEnabled() && cache.isQueryCacheEnabled());
+        }
+        return queryCacheable;
+    }
+
+    /**
+     * 创建缓存查询
+     *
+     * @param predicate 查询条件
+     * @param sort 排序
+     * @return 查询
+     */
+    private JPAQuery<T> createCacheableQuery(Predicate predicate, Sort sort) {
+        JPAQuery<T> query = getJPAQueryFactory().selectFrom(getEntityPath()).where(predicate);
+        if (sort != null) new Querydsl(getEntityManager(), getEntityPath()).applySorting(sort, query);
+        query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        return query;
+    }
+
+    /**
+     * 创建只读游标查询
+     *
+     * @param predicate 查询条件
+     * @param sort 排序
+     * @param fetchSize 抓取大小
+     * @return 查询
+     */
+    private org.hibernate.query.Query<T> createScrollQuery(Predicate predicate, Sort sort, int fetchSize) {
+        JPAQuery<T> query = getJPAQueryFactory().selectFrom(getEntityPath()).where(predicate);
+        if (sort != null) new Querydsl(getEntityManager(), getEntityPath()).applySorting(sort, query);
+
+        org.hibernate.query.Query<T> hQuery = ObjectUtil.cast(query.createQuery().unwrap(org.hibernate.query.Query.class));
+        hQuery.setFetchSize(fetchSize);
+        hQuery.setReadOnly(true);
+        return hQuery;
+    }
+
+    /**
+     * 将实体移出持久化上下文
+     *
+     * @param session 会话
+     * @param chunk 实体列表
+     * @return 实体数量
      */
-    private <S extends T> List<S> saveList(List<S> list) {
-        getRepository().saveAll(list);
-        list.forEach(this::onAfterSave);
+    private int detach(Session session, List<T> chunk) {
+        int size = chunk.size();
+        chunk.forEach(session::detach);
+        chunk.clear();
+        return size;
+    }
+
+    /**
+     * 读取持久化上下文中已加载的实体<br>不查询数据库，集合语句执行后用于同步已加载的实体
+     *
+     * @param ids 编号列表
+     * @return 实体列表
+     */
+    private List<T> getManaged(List<Long> ids) {
+        SessionImplementor session = getEntityManager().unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(getEntityType());
+        PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+        List<T> list = new ArrayList<>();
+        for (Long id : ids) {
+            Object entity = persistenceContext.getEntity(session.generateEntityKey(id, persister));
+            if (entity != null) list.add(getEntityType().cast(entity));
+        }
         return list;
     }
+
+    /**
+     * 读取实体编号
+     *
+     * @param entities 实体迭代
+     * @return 编号列表
+     */
+    private List<Long> toIds(Iterable<? extends T> entities) {
+        List<Long> ids = new ArrayList<>();
+        entities.forEach(e -> {
+            if (e != null && e.getId() != null) ids.add(e.getId());
+        });
+        return ids;
+    }
+
+    /**
+     * 转换成无重复编号列表
+     *
+     * @param ids 编号迭代
+     * @return 编号列表
+     */
+    private List<Long> toDistinctList(Iterable<Long> ids) {
+        Set<Long> set = new LinkedHashSet<>();
+        ids.forEach(id -> {
+            if (id != null) set.add(id);
+        });
+        return new ArrayList<>(set);
+    }
+
+    /**
+     * 查询分片<br>多读取一条记录判断是否有下一页
+     *
+     * @param query 查询
+     * @param pageable 分页
+     * @return 分片
+     * @param <R> 结果泛型
+     */
+    private <R> Slice<R> findSlice(JPAQuery<R> query, Pageable pageable) {
+        new Querydsl(getEntityManager(), getEntityPath()).applyPagination(pageable, query);
+        if (pageable.isPaged()) query.limit(pageable.getPageSize() + 1L);
+
+        List<R> list = query.fetch();
+        boolean hasNext = pageable.isPaged() && list.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? list.subList(0, pageable.getPageSize()) : list, pageable, hasNext);
+    }
+
+    /**
+     * 读取可部分更新的属性<br>除编号及审计字段外的基础属性
+     *
+     * @return 属性列表
+     */
+    private List<Attribute<?, ?>> getPatchAttributes() {
+        if (patchAttributes == null) {
+            versionAttribute = getEntityManager().getMetamodel().entity(getEntityType()).getSingularAttributes().stream().filter(SingularAttribute::isVersion).findFirst().orElse(null);
+            patchAttributes = getEntityManager().getMetamodel().entity(getEntityType()).getSingularAttributes().stream()
+                    .filter(attribute -> attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC)
+                    .filter(attribute -> !attribute.isId() && !attribute.isVersion() && !StringUtil.in(attribute.getName(), EasyModel.AUDITOR_FIELDS))
+                    .<Attribute<?, ?>>map(attribute -> attribute)
+                    .toList();
+        }
+        return patchAttributes;
+    }
+
+    /**
+     * 转换属性值<br>将字段内容转换为属性类型，无法转换时抛出参数异常
+     *
+     * @param attribute 属性
+     * @param value 字段内容
+     * @return 属性值
+     */
+    private Object toAttributeValue(Attribute<?, ?> attribute, Object value) {
+        if (value == null || ClassUtils.resolvePrimitiveIfNecessary(attribute.getJavaType()).isInstance(value)) return value;
+        try {
+            return DefaultConversionService.getSharedInstance().convert(value, attribute.getJavaType());
+        } catch (ConversionException e) {
+            throw new InvalidArgumentException(EasyService.class, "patch", attribute.getName(), value);
+        }
+    }
+
+    /**
+     * 判断保存回调是否被重写
+     *
+     * @param type 业务类型
+     * @param name 回调名称
+     * @return 判断结果
+     */
+    private static boolean isOverridden(Class<?> type, String name) {
+        try {
+            return type.getMethod(name, EasyModel.class).getDeclaringClass() != EasyService.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 设置版本<br>数值版本加一，时间版本设置为审计时间，未声明版本属性时忽略
+     *
+     * @param clause 更新语句
+     * @param stamp 审计
+     */
+    private void setVersion(JPAUpdateClause clause, BatchAuditor.Stamp stamp) {
+        if (versionAttribute == null) return;
+        Class<?> type = ObjectUtil.getType(versionAttribute.getJavaType());
+        if (Number.class.isAssignableFrom(type)) {
+            NumberPath<Integer> version = ObjectUtil.cast(getEntityPath().getNumber(versionAttribute.getName(), ObjectUtil.<Class<Integer>>cast(type)));
+            clause.set(version, version.add(1));
+        } else if (Date.class.isAssignableFrom(type)) {
+            clause.set(getEntityPath().getDate(versionAttribute.getName(), Date.class), stamp.getTime());
+        } else {
+            log.warn("Cannot increase version {} of type {} in patch.", versionAttribute.getName(), type.getName());
+        }
+    }
+
+    /**
+     * 缓存统计实体数量<br>缓存标识由实体类型及查询条件组成
+     *
+     * @param predicate 查询条件
+     * @return 实体数量
+     */
+    private long countInCache(Predicate predicate) {
+        String key = "count." + getEntityType().getName() + "." + CryptoUtil.md5(String.valueOf(isEmpty(predicate) ? null : predicate));
+        Optional<Long> cached = CacheUtil.get(key).map(v -> ((Number) v).longValue());
+        if (cached.isPresent()) return cached.get();
+
+        long count = count(predicate);
+        CacheUtil.safeSet(key, count, jpaProperties.getCountCacheTimeToLive());
+        return count;
+    }
+
+    /**
+     * 读取数据库统计信息中的表记录数<br>仅支持 PostgreSQL 及 MySQL，统计信息不可用时返回空
+     *
+     * @return 估算记录数
+     */
+    private Optional<Long> estimateCount() {
+        SessionFactoryImplementor sessionFactory = getEntityManager().getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        String sql;
+        if (dialect instanceof PostgreSQLDialect) {
+            sql = "select cast(reltuples as bigint) from pg_class where oid = to_regclass(:table)";
+        } else if (dialect instanceof MySQLDialect) {
+            sql = "select table_rows from information_schema.tables where table_schema = database() and table_name = :table";
+        } else {
+            return Optional.empty();
+        }
+
+        try {
+            EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(getEntityType());
+            String table = ((AbstractEntityPersister) persister).getTableName().replace("\"", "").replace("`", "");
+            List<?> list = getEntityManager().createNativeQuery(sql).setParameter("table", table).getResultList();
+            return list.stream().filter(Objects::nonNull).map(v -> ((Number) v).longValue()).filter(v -> v >= 0).findFirst();
+        } catch (RuntimeException e) {
+            log.warn("Cannot estimate count of {}: {}", getEntityType().getSimpleName(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 判断查询条件是否为空
+     *
+     * @param predicate 查询条件
+     * @return 判断结果
+     */
+    private boolean isEmpty(Predicate predicate) {
+        return predicate == null || (predicate instanceof BooleanBuilder builder && !builder.hasValue());
+    }
+
+    /**
+     * 分段批量保存
+     *
+     * @param entities 实体迭代
+     * @param persistOnly 是否仅插入
+     * @param consumer 已保存实体消费
+     * @return 保存数量
+     * @param <S> 实体泛型
+     */
+    private <S extends T> long saveInBatch(Iterable<S> entities, boolean persistOnly, Consumer<S> consumer) {
+        int batchSize = getBatchSize();
+        Session session = getEntityManager().unwrap(Session.class);
+        Integer jdbcBatchSize = session.getJdbcBatchSize();
+        DateTimeUtil.Timer timer = new DateTimeUtil.Timer();
+        long total;
+
+        // Flush pending changes before saved chunks are detached
+        log.info("Start data saving with batch size {}...", batchSize);
+        session.flush();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            total = BatchAuditor.with(this::getCurrentAuditor, () -> SequenceIDGenerator.withAssigned(batchSize, () -> saveInChunks(session, entities, persistOnly, consumer, batchSize)));
+        } finally {
+            session.setJdbcBatchSize(jdbcBatchSize);
+        }
+        log.info("Complete data saving, total {} record(s) saved in {}, {} record(s)/s.", total, timer.getSpendString(), total * 1000 / Math.max(timer.getSpend(), 1));
+        return total;
+    }
+
+    /**
+     * 分段保存<br>新实体按批量预分配编号，一次分配一个分段
+     *
+     * @param session 会话
+     * @param entities 实体迭代
+     * @param persistOnly 是否仅插入
+     * @param consumer 已保存实体消费
+     * @param batchSize 批处理大小
+     * @return 保存数量
+     * @param <S> 实体泛型
+     */
+    private <S extends T> long saveInChunks(Session session, Iterable<S> entities, boolean persistOnly, Consumer<S> consumer, int batchSize) {
+        BatchAuditor.Stamp stamp = getAuditStamp();
+        List<S> chunk = new ArrayList<>(batchSize);
+        long total = 0;
+
+        for (S entity : entities) {
+            onBeforeSave(entity);
+            if (persistOnly || entity.isNew()) {
+                if (!entity.getClass().isAnnotationPresent(ManualID.class)) entity.setId(null);
+                BatchAuditor.stampCreate(entity, stamp);
+                session.persist(entity);
+                chunk.add(entity);
+            } else {
+                BatchAuditor.stampUpdate(entity, stamp);
+                chunk.add(session.merge(entity));
+            }
+            if (chunk.size() == batchSize) {
+                total += flushAndDetach(session, chunk, consumer);
+                log.debug("Saved and flushed {} records, total {} record(s).", batchSize, total);
+            }
+        }
+
+        // Save rest entities
+        if (!chunk.isEmpty()) {
+            int size = chunk.size();
+            total += flushAndDetach(session, chunk, consumer);
+            log.debug("Saved and flushed last {} record(s).", size);
+        }
+        return total;
+    }
+
+    /**
+     * 分段插入或更新
+     *
+     * @param session 会话
+     * @param entities 实体迭代
+     * @param conflictKey 冲突字段
+     * @param batchSize 批处理大小
+     * @return 保存数量
+     * @param <S> 实体泛型
+     */
+    private <S extends T> long upsertInChunks(Session session, Iterable<S> entities, String conflictKey, int batchSize) {
+        Map<Object, S> chunk = new LinkedHashMap<>(batchSize);
+        Set<Object> keys = new HashSet<>();
+        long total = 0;
+
+        for (S entity : entities) {
+            Object key = getConflictField(entity.getClass(), conflictKey).get(entity);
+            if (key == null) throw new CommonException("Conflict key '" + conflictKey + "' of " + entity.getClass().getSimpleName() + " cannot be null.");
+            if (!keys.add(key)) throw new InvalidArgumentException(EasyService.class, "upsertAll", conflictKey, key);
+            chunk.put(key, entity);
+            if (chunk.size() == batchSize) {
+                total += upsertChunk(session, chunk, conflictKey);
+                log.debug("Upserted and flushed {} records, total {} record(s).", batchSize, total);
+            }
+        }
+
+        // Upsert rest entities
+        if (!chunk.isEmpty()) {
+            int size = chunk.size();
+            total += upsertChunk(session, chunk, conflictKey);
+            log.debug("Upserted and flushed last {} record(s).", size);
+        }
+        return total;
+    }
+
+    /**
+     * 插入或更新分段<br>一次查询已存在的实体，已存在的实体复制字段后由脏检查批量更新，其余实体预分配编号后批量插入；
+     * 已逻辑删除的实体占用冲突字段，更新时一并恢复
+     *
+     * @param session 会话
+     * @param chunk 冲突字段值与实体映射
+     * @param conflictKey 冲突字段
+     * @return 保存数量
+     * @param <S> 实体泛型
+     */
+    private <S extends T> int upsertChunk(Session session, Map<Object, S> chunk, String conflictKey) {
+        ObjectUtil.ClassField keyField = getConflictField(getEntityType(), conflictKey);
+        BatchAuditor.Stamp stamp = getAuditStamp();
+        Map<Object, T> existing = new HashMap<>();
+        for (List<Object> keys : CollectionUtil.partition(new ArrayList<>(chunk.keySet()), jpaProperties.getInClauseSize())) {
+            getJPAQueryFactory().selectFrom(getEntityPath()).where(getEntityPath().get(conflictKey).in(keys)).fetch().forEach(v -> existing.put(keyField.get(v), v));
+        }
+
+        // Copy into existing entities or persist new entities
+        List<T> saved = new ArrayList<>(chunk.size());
+        for (Map.Entry<Object, S> entry : chunk.entrySet()) {
+            S entity = entry.getValue();
+            T origin = existing.get(entry.getKey());
+            onBeforeSave(entity);
+            if (origin != null) {
+                T target = ObjectUtil.copy(origin, entity, true, false, EasyModel.AUDITOR_FIELDS);
+                if (DictUtil.Bool.TRUE.equals(target.getIsDeleted())) {
+                    target.setIsDeleted(DictUtil.Bool.FALSE);
+                    target.setDeleter(stamp.getAuditor());
+                    target.setDeleteTime(stamp.getTime());
+                }
+                BatchAuditor.stampUpdate(target, stamp);
+                saved.add(target);
+            } else {
+                if (!entity.getClass().isAnnotationPresent(ManualID.class)) entity.setId(null);
+                BatchAuditor.stampCreate(entity, stamp);
+                session.persist(entity);
+                saved.add(entity);
+            }
+        }
+        log.debug("Found {} existing record(s) of {} in {}.", existing.size(), getEntityType().getSimpleName(), chunk.size());
+        chunk.clear();
+        return flushAndDetach(session, saved, null);
+    }
+
+    /**
+     * 读取冲突字段
+     *
+     * @param type 类型
+     * @param conflictKey 冲突字段
+     * @return 类型字段
+     */
+    private ObjectUtil.ClassField getConflictField(Class<?> type, String conflictKey) {
+        ObjectUtil.ClassField classField = ObjectUtil.getAllClassFields(type).get(conflictKey);
+        if (classField == null || !classField.isGettable()) throw new CommonException("Cannot find conflict key '" + conflictKey + "' from type " + type.getName() + ".");
+        return classField;
+    }
+
+    /**
+     * 冲刷并将当前分段实体移出持久化上下文<br>只移出本分段保存的实体，调用方在同一事务中已加载的其他实体保持托管状态
+     *
+     * @param session 会话
+     * @param chunk 当前分段实体<br>更新时为合并返回的托管实体
+     * @param consumer 已保存实体消费
+     * @return 分段数量
+     * @param <S> 实体泛型
+     */
+    private <S extends T> int flushAndDetach(Session session, List<S> chunk, Consumer<S> consumer) {
+        int size = chunk.size();
+        session.flush();
+        chunk.forEach(this::onAfterSave);
+        chunk.forEach(session::detach);
+        if (consumer != null) chunk.forEach(consumer);
+        chunk.clear();
+        return size;
+    }
 }
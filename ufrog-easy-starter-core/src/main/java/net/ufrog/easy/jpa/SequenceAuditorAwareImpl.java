@@ -1,32 +1,27 @@
 package net.ufrog.easy.jpa;
 
 import jakarta.annotation.Nonnull;
-import lombok.extern.slf4j.Slf4j;
 import net.ufrog.easy.ApplicationRequest;
-import net.ufrog.easy.exceptions.UnauthorizedException;
 import org.springframework.data.domain.AuditorAware;
 
 import java.util.Optional;
 
 /**
- * 序列审计识别实现
+ * 序列审计识别实现<br>批量审计期间使用批量解析的审计用户，无请求上下文时使用空用户
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-12
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
-@Slf4j
 public class SequenceAuditorAwareImpl implements AuditorAware<Long> {
 
     @Override
     @Nonnull
     public Optional<Long> getCurrentAuditor() {
-        Long id = null;
-        try {
-            id = ApplicationRequest.getCurrentUser();
-        } catch (UnauthorizedException e) {
-            log.trace("Cannot get current user", e);
-        }
+        Optional<BatchAuditor.Stamp> stamp = BatchAuditor.getCurrent();
+        if (stamp.isPresent()) return Optional.of(stamp.get().getAuditor());
+
+        Long id = ApplicationRequest.getCurrent().map(ApplicationRequest::getUserId).orElse(null);
         return Optional.of(id == null ? EasyModel.NULL : id);
     }
 }
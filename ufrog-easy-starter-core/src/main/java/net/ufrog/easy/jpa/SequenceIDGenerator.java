@@ -1,35 +1,84 @@
 package net.ufrog.easy.jpa;
 
 import cn.izern.sequence.Sequence;
+import lombok.extern.slf4j.Slf4j;
+import net.ufrog.easy.configurations.properties.JpaProperties;
+import net.ufrog.easy.utils.StringUtil;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.Configurable;
 import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
 
 import java.io.Serial;
+import java.lang.reflect.Member;
+import java.util.function.Supplier;
 
 /**
- * 序列编号生成器
+ * 序列编号生成器<br>
+ * 只有标注 {@link ManualID} 的实体允许沿用已设置的编号，其余实体的编号始终由序列生成，Hibernate 仍按编号判断实体是否为新实体
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-12
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
+@Slf4j
 public class SequenceIDGenerator implements IdentifierGenerator, Configurable {
 
     @Serial
     private static final long serialVersionUID = 1863172598187421215L;
 
-    private static final Sequence SEQUENCE = new Sequence();
+    private static final String MODE_STRIPED = "striped";
+
+    /** 预分配编号块<br>仅在批量保存期间存在 */
+    private static final ThreadLocal<IdBlock> ASSIGNED = new ThreadLocal<>();
+
+    /** 序列 */
+    private static volatile Sequence sequence = new Sequence();
+
+    /** 多通道序列<br>未启用时为空 */
+    private static volatile StripedSequence stripedSequence = null;
+
+    /** 是否允许手动设置编号 */
+    private final boolean manual;
+
+    /**
+     * 构造函数<br>由 {@link SequenceID} 创建，每个实体一个实例
+     *
+     * @param sequenceID 编号标注
+     * @param member 编号成员
+     * @param context 创建上下文
+     */
+    public SequenceIDGenerator(SequenceID sequenceID, Member member, CustomIdGeneratorCreationContext context) {
+        this.manual = context.getPersistentClass().getMappedClass().isAnnotationPresent(ManualID.class);
+    }
 
     @Override
     public Object generate(SharedSessionContractImplementor session, Object object) {
-        ManualID manualID = object.getClass().getAnnotation(ManualID.class);
-        if (manualID != null && object instanceof EasyModel model) {
-            if (model.getId() != null) {
-                return model.getId();
-            }
+        if (manual && object instanceof EasyModel model && model.getId() != null) return model.getId();
+        IdBlock block = ASSIGNED.get();
+        return block == null ? nextId() : block.next();
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return manual;
+    }
+
+    /**
+     * 初始化
+     *
+     * @param id 编号生成参数
+     */
+    public static void init(JpaProperties.Id id) {
+        boolean configured = (id.getWorkerId() != null && id.getDatacenterId() != null);
+        if (StringUtil.equals(MODE_STRIPED, id.getMode())) {
+            stripedSequence = configured ? new StripedSequence(id.getWorkerId(), id.getDatacenterId(), id.getLanes()) : new StripedSequence(id.getLanes());
+            log.info("Initialize striped sequence with {} lane(s).", id.getLanes());
+        } else {
+            if (configured) sequence = new Sequence(id.getWorkerId(), id.getDatacenterId());
+            stripedSequence = null;
+            log.info("Initialize sequence with worker id {} and datacenter id {}.", id.getWorkerId(), id.getDatacenterId());
         }
-        return nextId();
     }
 
     /**
@@ -38,6 +87,87 @@ public class SequenceIDGenerator implements IdentifierGenerator, Configurable {
      * @return 编号
      */
     public static long nextId() {
-        return SEQUENCE.nextId();
+        StripedSequence striped = stripedSequence;
+        return striped == null ? sequence.nextId() : striped.nextId();
+    }
+
+    /**
+     * 批量生成编号
+     *
+     * @param n 数量
+     * @return 编号数组
+     */
+    public static long[] nextIds(int n) {
+        StripedSequence striped = stripedSequence;
+        if (striped != null) return striped.nextIds(n);
+
+        // Hold the monitor once instead of once per id
+        Sequence current = sequence;
+        long[] ids = new long[n];
+        synchronized (current) {
+            for (int i = 0; i < n; i++) {
+                ids[i] = current.nextId();
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 按预分配编号块执行<br>执行期间当前线程生成的编号按块批量分配，每块只访问一次序列
+     *
+     * @param blockSize 编号块大小
+     * @param supplier 执行内容
+     * @return 执行结果
+     * @param <R> 结果泛型
+     */
+    public static <R> R withAssigned(int blockSize, Supplier<R> supplier) {
+        if (ASSIGNED.get() != null) return supplier.get();
+        ASSIGNED.set(new IdBlock(blockSize));
+        try {
+            return supplier.get();
+        } finally {
+            ASSIGNED.remove();
+        }
+    }
+
+    /**
+     * 预分配编号块
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    private static final class IdBlock {
+
+        /** 编号块大小 */
+        private final int size;
+
+        /** 已分配编号 */
+        private long[] ids = new long[0];
+
+        /** 当前位置 */
+        private int index;
+
+        /**
+         * 构造函数
+         *
+         * @param size 编号块大小
+         */
+        private IdBlock(int size) {
+            this.size = Math.max(size, 1);
+        }
+
+        /**
+         * 读取下一个编号<br>用完时分配下一块
+         *
+         * @return 编号
+         */
+        private long next() {
+            if (index == ids.length) {
+                ids = nextIds(size);
+                index = 0;
+            }
+            return ids[index++];
+        }
     }
 }
@@ -0,0 +1,183 @@
+package net.ufrog.easy.jpa;
+
+import cn.izern.sequence.Sequence;
+import net.ufrog.easy.exceptions.CommonException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 多通道序列<br>
+ * 与 {@link Sequence} 相同的 64 位布局（时间戳 41 位、数据中心 5 位、工作节点 5 位、序列 12 位），
+ * 序列位的高位划分为通道，各线程轮询分配到不同通道并通过 CAS 无锁生成，同一毫秒序列用尽时借用后续毫秒，借用过多时等待时钟
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class StripedSequence {
+
+    private static final long EPOCH             = 1288834974657L;
+    private static final long MAX_NODE_ID       = 31L;
+    private static final int SEQUENCE_BITS      = 12;
+    private static final int WORKER_SHIFT       = 12;
+    private static final int DATACENTER_SHIFT   = 17;
+    private static final int TIMESTAMP_SHIFT    = 22;
+    private static final int MAX_LANE_BITS      = 6;
+    private static final long MAX_BORROW_MILLIS = 10L;
+
+    /** 通道状态间隔<br>避免相邻通道伪共享 */
+    private static final int PADDING = 16;
+
+    /** 节点位 */
+    private final long node;
+
+    /** 通道内序列位数 */
+    private final int sequenceBits;
+
+    /** 通道内序列掩码 */
+    private final long sequenceMask;
+
+    /** 通道掩码 */
+    private final int laneMask;
+
+    /** 通道状态<br>(毫秒时间戳 &lt;&lt; 通道内序列位数) | 最后使用的序列 */
+    private final AtomicLongArray states;
+
+    /** 通道分配计数 */
+    private final AtomicInteger laneCounter = new AtomicInteger();
+
+    /** 线程通道<br>首次使用时轮询分配，通道序列借用过多时迁移到下一通道 */
+    private final ThreadLocal<int[]> threadLane;
+
+    /**
+     * 构造函数
+     *
+     * @param workerId 工作节点编号
+     * @param datacenterId 数据中心编号
+     * @param lanes 通道数量
+     */
+    public StripedSequence(long workerId, long datacenterId, int lanes) {
+        if (workerId < 0 || workerId > MAX_NODE_ID) throw new CommonException("Worker id must be between 0 and " + MAX_NODE_ID + ".");
+        if (datacenterId < 0 || datacenterId > MAX_NODE_ID) throw new CommonException("Datacenter id must be between 0 and " + MAX_NODE_ID + ".");
+        if (lanes <= 0 || Integer.bitCount(lanes) != 1 || lanes > (1 << MAX_LANE_BITS)) throw new CommonException("Lanes must be a power of 2 and not greater than " + (1 << MAX_LANE_BITS) + ".");
+
+        this.node = (datacenterId << DATACENTER_SHIFT) | (workerId << WORKER_SHIFT);
+        this.sequenceBits = SEQUENCE_BITS - Integer.numberOfTrailingZeros(lanes);
+        this.sequenceMask = ~(-1L << sequenceBits);
+        this.laneMask = lanes - 1;
+        this.states = new AtomicLongArray(lanes * PADDING);
+        this.threadLane = ThreadLocal.withInitial(() -> new int[] {laneCounter.getAndIncrement() & laneMask});
+    }
+
+    /**
+     * 构造函数<br>自动计算工作节点及数据中心编号
+     *
+     * @param lanes 通道数量
+     */
+    public StripedSequence(int lanes) {
+        this(NodeId.workerId(), NodeId.datacenterId(), lanes);
+    }
+
+    /**
+     * 生成编号
+     *
+     * @return 编号
+     */
+    public long nextId() {
+        int[] lane = threadLane.get();
+        long state = reserve(lane, 1);
+        return toId(lane[0], state);
+    }
+
+    /**
+     * 批量生成编号<br>一次 CAS 分配连续序列段
+     *
+     * @param n 数量
+     * @return 编号数组
+     */
+    public long[] nextIds(int n) {
+        if (n < 0) throw new CommonException("Count of ids cannot be negative.");
+        long[] ids = new long[n];
+        if (n == 0) return ids;
+
+        int[] lane = threadLane.get();
+        long start = reserve(lane, n);
+        for (int i = 0; i < n; i++) {
+            ids[i] = toId(lane[0], start + i);
+        }
+        return ids;
+    }
+
+    /**
+     * 分配序列段<br>当前通道借用过多时依次尝试其他通道，全部通道均借用过多时等待时钟
+     *
+     * @param lane 线程通道
+     * @param n 数量
+     * @return 序列段起始状态
+     */
+    private long reserve(int[] lane, int n) {
+        long borrow = Math.max(MAX_BORROW_MILLIS, ((long) n >>> sequenceBits) + 1);
+        long now = System.currentTimeMillis();
+        int probes = 0;
+        while (true) {
+            int index = lane[0] * PADDING;
+            long current = states.get(index);
+            long start = Math.max(current + 1, now << sequenceBits);
+            long end = start + n - 1;
+
+            if ((end >>> sequenceBits) - now <= borrow) {
+                if (states.compareAndSet(index, current, end)) return start;
+            } else if (++probes <= laneMask) {
+                lane[0] = (lane[0] + 1) & laneMask;
+            } else {
+                Thread.onSpinWait();
+                now = System.currentTimeMillis();
+                probes = 0;
+            }
+        }
+    }
+
+    /**
+     * 转换成编号
+     *
+     * @param lane 通道
+     * @param state 序列状态
+     * @return 编号
+     */
+    private long toId(int lane, long state) {
+        long timestamp = (state >>> sequenceBits) - EPOCH;
+        return (timestamp << TIMESTAMP_SHIFT) | node | ((long) lane << sequenceBits) | (state & sequenceMask);
+    }
+
+    /**
+     * 节点编号<br>沿用 {@link Sequence} 的自动计算规则
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    private static final class NodeId extends Sequence {
+
+        /** 构造函数<br>不允许外部构造 */
+        private NodeId() {}
+
+        /**
+         * 计算数据中心编号
+         *
+         * @return 数据中心编号
+         */
+        private static long datacenterId() {
+            return getDatacenterId(MAX_NODE_ID);
+        }
+
+        /**
+         * 计算工作节点编号
+         *
+         * @return 工作节点编号
+         */
+        private static long workerId() {
+            return getMaxWorkerId(datacenterId(), MAX_NODE_ID);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package net.ufrog.easy.jpa.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ufrog.easy.caches.CacheUtil;
+import net.ufrog.easy.exceptions.CommonException;
+import net.ufrog.easy.utils.CryptoUtil;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
+/**
+ * 二级缓存区域存储<br>
+ * 缓存标识包含区域版本，清空区域时更新版本使旧数据失效，版本在本地保留一秒以减少远程读取
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Slf4j
+public class CacheStorageAccess implements DomainDataStorageAccess {
+
+    private static final String PREFIX                  = "l2.";
+    private static final long GENERATION_CHECK_MILLIS   = 1000L;
+
+    /** 区域名称 */
+    private final String regionName;
+
+    /** 生存时间<br>单位：秒 */
+    private final int timeToLive;
+
+    /** 区域版本标识 */
+    private final String generationKey;
+
+    /** 区域版本 */
+    private volatile long generation;
+
+    /** 区域版本读取时间 */
+    private volatile long generationCheckedAt;
+
+    /**
+     * 构造函数
+     *
+     * @param regionName 区域名称
+     * @param timeToLive 生存时间
+     */
+    public CacheStorageAccess(String regionName, int timeToLive) {
+        this.regionName = regionName;
+        this.timeToLive = timeToLive;
+        this.generationKey = PREFIX + regionName + ".generation";
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        if (!CacheUtil.isInitialized()) return null;
+        return CacheUtil.get(toCacheKey(key)).orElse(null);
+    }
+
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        if (!CacheUtil.isInitialized()) return;
+        CacheUtil.set(toCacheKey(key), value, timeToLive);
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        return getFromCache(key, null) != null;
+    }
+
+    @Override
+    public void evictData() {
+        if (!CacheUtil.isInitialized()) return;
+
+        // Generation outlives every entry written under the previous one
+        long next = Math.max(System.currentTimeMillis(), generation + 1);
+        CacheUtil.set(generationKey, next, timeToLive * 2);
+        generation = next;
+        generationCheckedAt = System.currentTimeMillis();
+        log.debug("Evicted second-level cache region {}.", regionName);
+    }
+
+    @Override
+    public void evictData(Object key) {
+        if (!CacheUtil.isInitialized()) return;
+        CacheUtil.remove(toCacheKey(key));
+    }
+
+    @Override
+    public void release() {
+        log.debug("Released second-level cache region {}.", regionName);
+    }
+
+    /**
+     * 转换成缓存标识
+     *
+     * @param key 区域内标识
+     * @return 缓存标识
+     */
+    private String toCacheKey(Object key) {
+        String str = (key instanceof CharSequence || key instanceof Number) ? key.toString() : digest(key);
+        return PREFIX + regionName + "." + getGeneration() + "." + str;
+    }
+
+    /**
+     * 读取区域版本
+     *
+     * @return 区域版本
+     */
+    private long getGeneration() {
+        long now = System.currentTimeMillis();
+        if (now - generationCheckedAt > GENERATION_CHECK_MILLIS) {
+            generation = CacheUtil.get(generationKey, Long.class).orElse(0L);
+            generationCheckedAt = now;
+        }
+        return generation;
+    }
+
+    /**
+     * 计算复合标识摘要<br>查询缓存标识等对象按序列化内容计算
+     *
+     * @param key 区域内标识
+     * @return 摘要
+     */
+    private static String digest(Object key) {
+        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(); ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(key);
+            objectOutputStream.flush();
+            return CryptoUtil.encodeHex(CryptoUtil.hash(byteArrayOutputStream.toByteArray(), CryptoUtil.HashType.MD5));
+        } catch (IOException e) {
+            throw CommonException.newInstance(e);
+        }
+    }
+}
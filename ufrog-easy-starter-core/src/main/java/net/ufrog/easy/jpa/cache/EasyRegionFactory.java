@@ -0,0 +1,77 @@
+package net.ufrog.easy.jpa.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.SimpleCacheKeysFactory;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.io.Serial;
+import java.util.Map;
+
+/**
+ * 二级缓存区域工厂<br>
+ * 各区域均存储在 {@link net.ufrog.easy.caches.CacheUtil} 中，实体通过 {@link jakarta.persistence.Cacheable} 选择启用
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Slf4j
+public class EasyRegionFactory extends RegionFactoryTemplate {
+
+    /** 生存时间配置项<br>单位：秒 */
+    public static final String TIME_TO_LIVE = "hibernate.cache.easy.time_to_live";
+
+    @Serial
+    private static final long serialVersionUID = 3019521842310552601L;
+
+    private static final int DEFAULT_TIME_TO_LIVE = 60 * 60;
+
+    /** 生存时间<br>单位：秒 */
+    private int timeToLive = DEFAULT_TIME_TO_LIVE;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        Object value = configValues.get(TIME_TO_LIVE);
+        if (value != null) timeToLive = Integer.parseInt(value.toString());
+        log.info("Prepared second-level cache region factory with {}-second time to live.", timeToLive);
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        log.info("Released second-level cache region factory.");
+    }
+
+    @Override
+    public AccessType getDefaultAccessType() {
+        return AccessType.NONSTRICT_READ_WRITE;
+    }
+
+    @Override
+    protected CacheKeysFactory getImplicitCacheKeysFactory() {
+        return SimpleCacheKeysFactory.INSTANCE;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext) {
+        return new CacheStorageAccess(regionConfig.getRegionName(), timeToLive);
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new CacheStorageAccess(regionName, timeToLive);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        // Timestamps must outlive every query result they validate
+        return new CacheStorageAccess(regionName, timeToLive * 2);
+    }
+}
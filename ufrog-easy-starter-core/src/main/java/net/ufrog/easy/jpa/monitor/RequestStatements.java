@@ -0,0 +1,67 @@
+package net.ufrog.easy.jpa.monitor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 请求语句统计<br>请求内的语句可能在多个线程中执行，各计数均为线程安全
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class RequestStatements {
+
+    /** 语句数量 */
+    private final AtomicInteger count = new AtomicInteger();
+
+    /** 总耗时<br>单位：纳秒 */
+    private final LongAdder totalNanos = new LongAdder();
+
+    /** 形态与执行次数映射 */
+    private final Map<String, AtomicInteger> shapes = new ConcurrentHashMap<>();
+
+    /**
+     * 记录语句
+     *
+     * @param shape 语句形态
+     * @param nanos 耗时
+     * @return 该形态执行次数
+     */
+    int record(String shape, long nanos) {
+        count.incrementAndGet();
+        totalNanos.add(nanos);
+        return shapes.computeIfAbsent(shape, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * 读取语句数量
+     *
+     * @return 语句数量
+     */
+    public int getCount() {
+        return count.get();
+    }
+
+    /**
+     * 读取总耗时
+     *
+     * @return 总耗时<br>单位：毫秒
+     */
+    public long getTotalMillis() {
+        return totalNanos.sum() / 1_000_000L;
+    }
+
+    /**
+     * 读取形态执行次数
+     *
+     * @return 形态与执行次数映射
+     */
+    public Map<String, Integer> getShapes() {
+        Map<String, Integer> map = new ConcurrentHashMap<>();
+        shapes.forEach((k, v) -> map.put(k, v.get()));
+        return map;
+    }
+}
@@ -0,0 +1,93 @@
+package net.ufrog.easy.jpa.monitor;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 语句形态统计<br>同一形态的语句仅参数不同
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class ShapeStats {
+
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    /** 语句形态 */
+    @Getter
+    private final String shape;
+
+    /** 执行次数 */
+    private final LongAdder count = new LongAdder();
+
+    /** 总耗时<br>单位：纳秒 */
+    private final LongAdder totalNanos = new LongAdder();
+
+    /** 最大耗时<br>单位：纳秒 */
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 构造函数
+     *
+     * @param shape 语句形态
+     */
+    ShapeStats(String shape) {
+        this.shape = shape;
+    }
+
+    /**
+     * 记录执行
+     *
+     * @param nanos 耗时
+     */
+    void record(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * 读取执行次数
+     *
+     * @return 执行次数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 读取总耗时
+     *
+     * @return 总耗时<br>单位：毫秒
+     */
+    public double getTotalMillis() {
+        return totalNanos.sum() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * 读取平均耗时
+     *
+     * @return 平均耗时<br>单位：毫秒
+     */
+    public double getAverageMillis() {
+        long c = count.sum();
+        return c == 0 ? 0 : totalNanos.sum() / NANOS_PER_MILLI / c;
+    }
+
+    /**
+     * 读取最大耗时
+     *
+     * @return 最大耗时<br>单位：毫秒
+     */
+    public double getMaxMillis() {
+        return maxNanos.get() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [count=%d, total=%.2fms, avg=%.2fms, max=%.2fms]", shape, getCount(), getTotalMillis(), getAverageMillis(), getMaxMillis());
+    }
+}
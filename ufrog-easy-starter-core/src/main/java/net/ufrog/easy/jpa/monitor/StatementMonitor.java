@@ -0,0 +1,174 @@
+package net.ufrog.easy.jpa.monitor;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ufrog.easy.ApplicationRequest;
+import net.ufrog.easy.configurations.properties.JpaProperties;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 语句监控<br>
+ * 按语句形态（去除字面量并合并参数列表后的语句）统计耗时，按应用请求统计语句数量，
+ * 请求语句数量超出预算或同一形态重复执行超过阈值时提示，用于发现 N+1 查询
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Slf4j
+public class StatementMonitor {
+
+    private static final int MAX_SHAPES             = 1000;
+    private static final int MAX_CACHED_STATEMENTS  = 2000;
+    private static final long NANOS_PER_MILLI       = 1_000_000L;
+    private static final String OTHER               = "(other)";
+
+    private static final Pattern STRING_LITERAL     = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL     = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST     = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACE         = Pattern.compile("\\s+");
+
+    /** 语句与形态映射 */
+    private static final Map<String, String> SHAPE_MAP = new ConcurrentHashMap<>();
+
+    /** 形态统计 */
+    private static final Map<String, ShapeStats> SHAPE_STATS_MAP = new ConcurrentHashMap<>();
+
+    /** 监控参数 */
+    private static volatile JpaProperties.Monitor monitor = new JpaProperties.Monitor();
+
+    /** 构造函数<br>不允许外部构造 */
+    private StatementMonitor() {}
+
+    /**
+     * 初始化
+     *
+     * @param monitor 监控参数
+     */
+    public static void init(JpaProperties.Monitor monitor) {
+        StatementMonitor.monitor = monitor;
+        if (monitor.isEnabled()) log.info("Initialize statement monitor with budget {}, repeat threshold {} and slow threshold {}ms.", monitor.getStatementBudget(), monitor.getRepeatThreshold(), monitor.getSlowThreshold());
+    }
+
+    /**
+     * 记录语句执行
+     *
+     * @param sql 语句
+     * @param nanos 耗时<br>单位：纳秒
+     */
+    public static void record(String sql, long nanos) {
+        String shape = getShape(sql);
+        getShapeStats(shape).record(nanos);
+
+        JpaProperties.Monitor current = monitor;
+        ApplicationRequest applicationRequest = ApplicationRequest.getCurrent().orElse(null);
+        String uri = applicationRequest == null ? null : applicationRequest.getRequestURI();
+        if (nanos > current.getSlowThreshold() * NANOS_PER_MILLI) {
+            log.warn("Slow statement took {}ms in request {}: {}", nanos / NANOS_PER_MILLI, uri, shape);
+        }
+        if (applicationRequest == null) return;
+
+        // Warn once when crossing each threshold
+        RequestStatements statements = getStatements(applicationRequest);
+        int repeated = statements.record(shape, nanos);
+        if (repeated == current.getRepeatThreshold() + 1) {
+            log.warn("Statement repeated more than {} time(s) in request {}, possible N+1 query: {}", current.getRepeatThreshold(), uri, shape);
+        }
+        if (statements.getCount() == current.getStatementBudget() + 1) {
+            log.warn("Request {} exceeded statement budget {}.", uri, current.getStatementBudget());
+        }
+    }
+
+    /**
+     * 完成请求<br>超出语句预算时输出重复次数最多的形态
+     *
+     * @param applicationRequest 应用请求
+     */
+    public static void complete(ApplicationRequest applicationRequest) {
+        RequestStatements statements = applicationRequest.getStatements();
+        if (statements == null) return;
+
+        if (statements.getCount() > monitor.getStatementBudget()) {
+            String top = statements.getShapes().entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .limit(3)
+                    .map(e -> e.getValue() + " x " + e.getKey())
+                    .collect(Collectors.joining("; "));
+            log.warn("Request {} executed {} statement(s) in {}ms, top shapes: {}", applicationRequest.getRequestURI(), statements.getCount(), statements.getTotalMillis(), top);
+        } else {
+            log.debug("Request {} executed {} statement(s) in {}ms.", applicationRequest.getRequestURI(), statements.getCount(), statements.getTotalMillis());
+        }
+    }
+
+    /**
+     * 读取形态统计<br>按总耗时降序排列
+     *
+     * @return 形态统计列表
+     */
+    public static List<ShapeStats> getShapeStats() {
+        List<ShapeStats> list = new ArrayList<>(SHAPE_STATS_MAP.values());
+        list.sort(Comparator.comparingDouble(ShapeStats::getTotalMillis).reversed());
+        return list;
+    }
+
+    /** 清除统计 */
+    public static void reset() {
+        SHAPE_STATS_MAP.clear();
+    }
+
+    /**
+     * 读取语句形态<br>去除字面量，合并参数列表及空白
+     *
+     * @param sql 语句
+     * @return 语句形态
+     */
+    static String getShape(String sql) {
+        String shape = SHAPE_MAP.get(sql);
+        if (shape == null) {
+            shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+            shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+            shape = PARAMETER_LIST.matcher(shape).replaceAll("?, ...");
+            shape = WHITESPACE.matcher(shape).replaceAll(" ").trim();
+            if (SHAPE_MAP.size() < MAX_CACHED_STATEMENTS) SHAPE_MAP.put(sql, shape);
+        }
+        return shape;
+    }
+
+    /**
+     * 读取形态统计<br>形态数量达到上限后新形态统一计入其他
+     *
+     * @param shape 语句形态
+     * @return 形态统计
+     */
+    private static ShapeStats getShapeStats(String shape) {
+        ShapeStats stats = SHAPE_STATS_MAP.get(shape);
+        if (stats != null) return stats;
+        return SHAPE_STATS_MAP.computeIfAbsent(SHAPE_STATS_MAP.size() < MAX_SHAPES ? shape : OTHER, ShapeStats::new);
+    }
+
+    /**
+     * 读取请求语句统计
+     *
+     * @param applicationRequest 应用请求
+     * @return 请求语句统计
+     */
+    private static RequestStatements getStatements(ApplicationRequest applicationRequest) {
+        RequestStatements statements = applicationRequest.getStatements();
+        if (statements == null) {
+            synchronized (applicationRequest) {
+                statements = applicationRequest.getStatements();
+                if (statements == null) {
+                    statements = new RequestStatements();
+                    applicationRequest.setStatements(statements);
+                }
+            }
+        }
+        return statements;
+    }
+}
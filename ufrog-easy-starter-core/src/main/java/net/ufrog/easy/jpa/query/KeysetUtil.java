@@ -0,0 +1,233 @@
+package net.ufrog.easy.jpa.query;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.ComparablePath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import net.ufrog.easy.exceptions.CommonException;
+import net.ufrog.easy.exceptions.InvalidArgumentException;
+import net.ufrog.easy.exceptions.InvalidRequestException;
+import net.ufrog.easy.json.JacksonUtil;
+import net.ufrog.easy.utils.ObjectUtil;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.Temporal;
+import java.util.*;
+
+/**
+ * 键集分页工具<br>
+ * 游标为排序字段值的 JSON 数组经 Base64 编码后的字符串，排序字段必须为非空实体字段
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class KeysetUtil {
+
+    private static final String ID = "id";
+
+    /** 构造函数<br>不允许外部构造 */
+    private KeysetUtil() {}
+
+    /**
+     * 转换成键集排序<br>未包含编号时追加编号升序以保证排序唯一
+     *
+     * @param sort 排序
+     * @return 键集排序
+     */
+    public static Sort toKeysetSort(Sort sort) {
+        if (sort == null || sort.isUnsorted()) return Sort.by(ID);
+        return sort.getOrderFor(ID) == null ? sort.and(Sort.by(ID)) : sort;
+    }
+
+    /**
+     * 校验键集排序<br>排序字段须为实体的可比较字段，否则视为无效请求参数
+     *
+     * @param entityType 实体类型
+     * @param sort 键集排序
+     */
+    public static void validate(Class<?> entityType, Sort sort) {
+        Map<String, ObjectUtil.ClassField> mClassField = ObjectUtil.getAllClassFields(entityType);
+        for (Sort.Order order : sort) {
+            getClassField(mClassField, order.getProperty());
+        }
+    }
+
+    /**
+     * 创建游标<br>排序字段值为空时无法定位下一页，视为无效排序
+     *
+     * @param entity 当前页最后一个实体
+     * @param sort 键集排序
+     * @return 游标
+     */
+    public static String encode(Object entity, Sort sort) {
+        Map<String, ObjectUtil.ClassField> mClassField = ObjectUtil.getAllClassFields(entity.getClass());
+        List<Object> values = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Object value = getClassField(mClassField, order.getProperty()).get(entity);
+            if (value == null) throw new InvalidArgumentException(KeysetUtil.class, "encode", order.getProperty());
+            values.add(toJsonValue(value));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(JacksonUtil.toString(values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析游标<br>格式、数量或内容与排序字段不符时视为无效游标
+     *
+     * @param cursor 游标
+     * @param entityType 实体类型
+     * @param sort 键集排序
+     * @return 排序字段值
+     */
+    public static Object[] decode(String cursor, Class<?> entityType, Sort sort) {
+        Map<String, ObjectUtil.ClassField> mClassField = ObjectUtil.getAllClassFields(entityType);
+        List<Sort.Order> orders = sort.toList();
+        JsonNode node;
+
+        try {
+            node = JacksonUtil.toJsonNode(Base64.getUrlDecoder().decode(cursor));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException(KeysetUtil.class, "decode", cursor);
+        }
+        if (node == null || !node.isArray() || node.size() != orders.size()) {
+            throw new InvalidRequestException(KeysetUtil.class, "decode", cursor);
+        }
+
+        // Convert json values to sort property types
+        Object[] values = new Object[orders.size()];
+        for (int i = 0; i < orders.size(); i++) {
+            Class<?> type = getClassField(mClassField, orders.get(i).getProperty()).getField().getType();
+            try {
+                values[i] = fromJsonValue(node.get(i), type);
+            } catch (RuntimeException e) {
+                throw new InvalidRequestException(KeysetUtil.class, "decode", cursor);
+            }
+            if (values[i] == null) throw new InvalidRequestException(KeysetUtil.class, "decode", cursor);
+        }
+        return values;
+    }
+
+    /**
+     * 读取游标断言<br>
+     * 等价于 (k1, k2, ...) &gt; (v1, v2, ...)，降序字段使用小于比较
+     *
+     * @param root 实体路径
+     * @param sort 键集排序
+     * @param values 排序字段值
+     * @return 断言
+     */
+    public static Predicate getPredicate(EntityPath<?> root, Sort sort, Object[] values) {
+        PathBuilder<?> builder = new PathBuilder<>(root.getType(), root.getMetadata());
+        List<Sort.Order> orders = sort.toList();
+        BooleanBuilder result = new BooleanBuilder();
+        BooleanBuilder equals = new BooleanBuilder();
+
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            ComparablePath<Comparable<Object>> path = ObjectUtil.cast(builder.getComparable(order.getProperty(), Comparable.class));
+            Comparable<Object> value = ObjectUtil.cast(values[i]);
+            if (value == null) throw new InvalidArgumentException(KeysetUtil.class, "getPredicate", order.getProperty());
+
+            result.or(new BooleanBuilder(equals).and(order.isAscending() ? path.gt(value) : path.lt(value)));
+            equals.and(path.eq(value));
+        }
+        return result;
+    }
+
+    /**
+     * 读取类型字段<br>字段不存在或类型不支持时视为无效排序
+     *
+     * @param mClassField 类型字段映射
+     * @param property 字段名称
+     * @return 类型字段
+     */
+    private static ObjectUtil.ClassField getClassField(Map<String, ObjectUtil.ClassField> mClassField, String property) {
+        ObjectUtil.ClassField classField = mClassField.get(property);
+        if (classField == null || !isSupported(ObjectUtil.getType(classField.getField().getType()))) throw new InvalidRequestException(KeysetUtil.class, "sort", property);
+        return classField;
+    }
+
+    /**
+     * 判断字段类型是否支持键集排序
+     *
+     * @param clazz 字段类型
+     * @return 判断结果
+     */
+    private static boolean isSupported(Class<?> clazz) {
+        return clazz == String.class || clazz == Long.class || clazz == Integer.class || clazz == Short.class || clazz == Double.class || clazz == Float.class || clazz == Boolean.class
+                || clazz == BigDecimal.class || clazz == BigInteger.class || Date.class.isAssignableFrom(clazz) || clazz == LocalDateTime.class || clazz == LocalDate.class
+                || clazz == Instant.class || clazz.isEnum();
+    }
+
+    /**
+     * 转换成 JSON 内容
+     *
+     * @param value 字段值
+     * @return JSON 内容
+     */
+    private static Object toJsonValue(Object value) {
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toInstant().toString();
+        } else if (value instanceof Date date) {
+            return date.getTime();
+        } else if (value instanceof Enum<?> e) {
+            return e.name();
+        } else if (value instanceof Temporal || value instanceof BigDecimal || value instanceof BigInteger) {
+            return value.toString();
+        }
+        return value;
+    }
+
+    /**
+     * 从 JSON 内容转换
+     *
+     * @param node JSON 节点
+     * @param type 字段类型
+     * @return 字段值
+     */
+    private static Object fromJsonValue(JsonNode node, Class<?> type) {
+        if (node == null || node.isNull()) return null;
+
+        Class<?> clazz = ObjectUtil.getType(type);
+        String text = node.asText();
+        if (clazz == String.class) {
+            return text;
+        } else if (clazz == Long.class) {
+            return Long.valueOf(text);
+        } else if (clazz == Integer.class) {
+            return Integer.valueOf(text);
+        } else if (clazz == Short.class) {
+            return Short.valueOf(text);
+        } else if (clazz == Double.class) {
+            return Double.valueOf(text);
+        } else if (clazz == Float.class) {
+            return Float.valueOf(text);
+        } else if (clazz == Boolean.class) {
+            if (!node.isBoolean()) throw new IllegalArgumentException("Not a boolean: " + text);
+            return node.booleanValue();
+        } else if (clazz == BigDecimal.class) {
+            return new BigDecimal(text);
+        } else if (clazz == BigInteger.class) {
+            return new BigInteger(text);
+        } else if (Date.class.isAssignableFrom(clazz)) {
+            return node.isTextual() ? java.sql.Timestamp.from(Instant.parse(text)) : new Date(Long.parseLong(text));
+        } else if (clazz == LocalDateTime.class) {
+            return LocalDateTime.parse(text);
+        } else if (clazz == LocalDate.class) {
+            return LocalDate.parse(text);
+        } else if (clazz == Instant.class) {
+            return Instant.parse(text);
+        } else if (clazz.isEnum()) {
+            return Enum.valueOf(ObjectUtil.cast(clazz), text);
+        }
+        throw new CommonException("Unsupported keyset sort property type: " + type.getName());
+    }
+}
@@ -1,23 +1,46 @@
 package net.ufrog.easy.jpa.query;
 
+import lombok.extern.slf4j.Slf4j;
+import net.ufrog.easy.exceptions.CommonException;
 import net.ufrog.easy.utils.ObjectUtil;
 import org.hibernate.query.TupleTransformer;
 
 import java.io.Serializable;
-import java.util.Map;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * 结构化查询元素转换器
+ * 结构化查询元素转换器<br>
+ * 按类型及别名列表编译映射计划并缓存，别名按字段名称匹配，未匹配时忽略大小写及下划线匹配，数值及时间类型按字段类型转换
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-13
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
+@Slf4j
 public class NativeQueryTupleTransformer<T extends Serializable> implements TupleTransformer<T> {
 
+    /** 映射计划缓存<br>类型及别名列表与映射计划映射 */
+    private static final Map<String, Mapper> MAPPER_MAP = new ConcurrentHashMap<>();
+
     /** 类型 */
     private final Class<T> type;
 
+    /** 当前结果集别名 */
+    private String[] aliases;
+
+    /** 当前结果集映射计划 */
+    private Mapper mapper;
+
     /**
      * 构造函数
      *
@@ -29,14 +52,153 @@ public class NativeQueryTupleTransformer<T extends Serializable> implements Tupl
 
     @Override
     public T transformTuple(Object[] tuple, String[] aliases) {
-        Map<String, ObjectUtil.ClassField> mClassField = ObjectUtil.getAllClassFields(type);
-        T result = ObjectUtil.newInstance(type);
-        for (int i = 0; i < aliases.length; i++) {
-            ObjectUtil.ClassField classField = mClassField.get(aliases[i]);
-            if (classField != null) {
-                classField.set(result, tuple[i]);
+        if (aliases != this.aliases) {
+            this.mapper = MAPPER_MAP.computeIfAbsent(type.getName() + ":" + String.join(",", aliases), k -> new Mapper(type, aliases));
+            this.aliases = aliases;
+        }
+        return type.cast(mapper.map(tuple));
+    }
+
+    /**
+     * 转换成字段类型
+     *
+     * @param value 数据库值
+     * @param target 字段类型
+     * @return 字段值
+     */
+    static Object convert(Object value, Class<?> target) {
+        if (value == null || target.isInstance(value)) return value;
+        if (value instanceof Number number) {
+            if (target == Long.class) return number.longValue();
+            if (target == Integer.class) return number.intValue();
+            if (target == Short.class) return number.shortValue();
+            if (target == Byte.class) return number.byteValue();
+            if (target == Double.class) return number.doubleValue();
+            if (target == Float.class) return number.floatValue();
+            if (target == Boolean.class) return number.intValue() != 0;
+            if (target == BigDecimal.class) return (number instanceof BigInteger bi) ? new BigDecimal(bi) : new BigDecimal(number.toString());
+            if (target == BigInteger.class) return (number instanceof BigDecimal bd) ? bd.toBigInteger() : BigInteger.valueOf(number.longValue());
+            if (target == String.class) return number.toString();
+        } else if (value instanceof Timestamp timestamp) {
+            if (target == LocalDateTime.class) return timestamp.toLocalDateTime();
+            if (target == LocalDate.class) return timestamp.toLocalDateTime().toLocalDate();
+            if (target == Instant.class) return timestamp.toInstant();
+        } else if (value instanceof java.sql.Date date) {
+            if (target == LocalDate.class) return date.toLocalDate();
+            if (target == LocalDateTime.class) return date.toLocalDate().atStartOfDay();
+        } else if (value instanceof LocalDateTime dateTime) {
+            if (target == Date.class) return Timestamp.valueOf(dateTime);
+            if (target == LocalDate.class) return dateTime.toLocalDate();
+            if (target == Instant.class) return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        } else if (value instanceof LocalDate date) {
+            if (target == Date.class) return java.sql.Date.valueOf(date);
+            if (target == LocalDateTime.class) return date.atStartOfDay();
+        } else if (value instanceof OffsetDateTime dateTime) {
+            if (target == Date.class) return Date.from(dateTime.toInstant());
+            if (target == LocalDateTime.class) return dateTime.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            if (target == Instant.class) return dateTime.toInstant();
+        } else if (value instanceof Instant instant) {
+            if (target == Date.class) return Date.from(instant);
+            if (target == LocalDateTime.class) return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+        } else if (value instanceof Character || value instanceof String) {
+            String str = value.toString();
+            if (target == String.class) return str;
+            if (target == Boolean.class) return "1".equals(str) || Boolean.parseBoolean(str);
+            if (target.isEnum()) return Enum.valueOf(ObjectUtil.cast(target), str);
+        }
+        throw new CommonException("Cannot convert " + value.getClass().getName() + " to " + target.getName() + ".");
+    }
+
+    /**
+     * 映射计划<br>构造函数及各列设置方法均为预先编译的方法句柄
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    private static final class Mapper {
+
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        /** 构造函数 */
+        private final MethodHandle constructor;
+
+        /** 各列设置方法<br>未匹配字段的列为空 */
+        private final MethodHandle[] setters;
+
+        /** 各列字段类型 */
+        private final Class<?>[] types;
+
+        /** 各列是否为基础类型 */
+        private final boolean[] primitives;
+
+        /**
+         * 构造函数
+         *
+         * @param type 类型
+         * @param aliases 别名列表
+         */
+        private Mapper(Class<?> type, String[] aliases) {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            Map<String, ObjectUtil.ClassField> mClassField = ObjectUtil.getAllClassFields(type);
+            Map<String, ObjectUtil.ClassField> mNormalized = new HashMap<>();
+            mClassField.forEach((k, v) -> mNormalized.putIfAbsent(normalize(k), v));
+
+            try {
+                Constructor<?> ctor = type.getDeclaredConstructor();
+                ctor.trySetAccessible();
+                this.constructor = lookup.unreflectConstructor(ctor).asType(MethodType.methodType(Object.class));
+                this.setters = new MethodHandle[aliases.length];
+                this.types = new Class<?>[aliases.length];
+                this.primitives = new boolean[aliases.length];
+
+                for (int i = 0; i < aliases.length; i++) {
+                    String alias = aliases[i];
+                    ObjectUtil.ClassField classField = Optional.ofNullable(mClassField.get(alias)).orElseGet(() -> mNormalized.get(normalize(alias)));
+                    if (classField == null || !classField.isSettable()) {
+                        log.debug("Cannot find settable field for alias '{}' from type {}.", alias, type.getName());
+                        continue;
+                    }
+
+                    Method setter = classField.getSetter();
+                    setter.trySetAccessible();
+                    this.setters[i] = lookup.unreflect(setter).asType(SETTER_TYPE);
+                    this.types[i] = ObjectUtil.getType(setter.getParameterTypes()[0]);
+                    this.primitives[i] = setter.getParameterTypes()[0].isPrimitive();
+                }
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw CommonException.newInstance(e);
             }
+            log.debug("Compiled tuple mapper for type {} with aliases {}.", type.getName(), Arrays.toString(aliases));
+        }
+
+        /**
+         * 映射
+         *
+         * @param tuple 结果行
+         * @return 对象
+         */
+        private Object map(Object[] tuple) {
+            try {
+                Object result = constructor.invokeExact();
+                for (int i = 0; i < setters.length; i++) {
+                    if (setters[i] == null || (tuple[i] == null && primitives[i])) continue;
+                    setters[i].invokeExact(result, convert(tuple[i], types[i]));
+                }
+                return result;
+            } catch (Throwable e) {
+                throw CommonException.newInstance(e);
+            }
+        }
+
+        /**
+         * 规范化名称<br>去除下划线并转换为小写
+         *
+         * @param name 名称
+         * @return 规范化名称
+         */
+        private static String normalize(String name) {
+            return name.replace("_", "").toLowerCase(Locale.ROOT);
         }
-        return result;
     }
 }
@@ -1,31 +1,56 @@
 package net.ufrog.easy.jpa.query;
 
 import jakarta.persistence.*;
+import net.ufrog.easy.configurations.properties.JpaProperties;
 import net.ufrog.easy.exceptions.CommonException;
 import net.ufrog.easy.templates.FreeMarkerUtil;
 import net.ufrog.easy.utils.FileUtil;
+import net.ufrog.easy.utils.MapUtil;
+import net.ufrog.easy.utils.ObjectUtil;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 import org.hibernate.query.NativeQuery;
 import org.hibernate.query.sql.internal.NativeQueryImpl;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 查询工具
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-13
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 public class QueryUtil {
 
+    private static final int MAX_RENDERED_QLS = 2000;
+
+    /** 查询语言文件缓存<br>文件名与文件内容映射 */
+    private static final Map<String, String> QL_MAP = new ConcurrentHashMap<>();
+
+    /** 渲染结果缓存<br>文件名及参数形态与查询语言映射，超出容量时淘汰最久未使用的结果 */
+    private static final Map<String, String> RENDERED_QL_MAP = MapUtil.lruMap(MAX_RENDERED_QLS);
+
     @PersistenceContext
     private EntityManager em;
 
+    /** 持久化参数 */
+    private JpaProperties jpaProperties;
+
     /**
      * 通过查询脚本查询单个实体对象
      *
@@ -84,6 +109,61 @@ public class QueryUtil {
         return query.getResultList();
     }
 
+    /**
+     * 通过结构化脚本流式查询<br>
+     * 以只进游标逐行读取并转换，须在事务内使用并在使用后关闭流，实体类型在推进时移出持久化上下文
+     *
+     * @param sql 结构化语言
+     * @param parameters 参数映射
+     * @param requiredType 请求类型
+     * @return 对象流
+     * @param <T> 实体对象泛型
+     */
+    public <T extends Serializable> Stream<T> streamByNative(final String sql, final Map<String, Object> parameters, Class<T> requiredType) {
+        ScrollableResults<T> results = createNativeScroll(sql, parameters, requiredType, jpaProperties.getFetchSize());
+        Session session = requiredType.isAnnotationPresent(Entity.class) ? em.unwrap(Session.class) : null;
+        return StreamSupport.stream(new ScrollSpliterator<>(session, results), false).onClose(results::close);
+    }
+
+    /**
+     * 通过结构化脚本逐行处理<br>以只进游标逐行读取并转换，须在事务内使用，实体类型处理后移出持久化上下文
+     *
+     * @param sql 结构化语言
+     * @param parameters 参数映射
+     * @param requiredType 请求类型
+     * @param consumer 处理方法
+     * @param fetchSize 抓取大小
+     * @return 处理数量
+     * @param <T> 实体对象泛型
+     */
+    public <T extends Serializable> long forEachByNative(final String sql, final Map<String, Object> parameters, Class<T> requiredType, Consumer<T> consumer, int fetchSize) {
+        Session session = requiredType.isAnnotationPresent(Entity.class) ? em.unwrap(Session.class) : null;
+        long total = 0;
+        try (ScrollableResults<T> results = createNativeScroll(sql, parameters, requiredType, fetchSize)) {
+            while (results.next()) {
+                T result = results.get();
+                consumer.accept(result);
+                if (session != null) session.detach(result);
+                total++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 通过结构化脚本逐行处理<br>使用默认抓取大小
+     *
+     * @param sql 结构化语言
+     * @param parameters 参数映射
+     * @param requiredType 请求类型
+     * @param consumer 处理方法
+     * @return 处理数量
+     * @param <T> 实体对象泛型
+     */
+    public <T extends Serializable> long forEachByNative(final String sql, final Map<String, Object> parameters, Class<T> requiredType, Consumer<T> consumer) {
+        return forEachByNative(sql, parameters, requiredType, consumer, jpaProperties.getFetchSize());
+    }
+
     /**
      * 创建指定类型查询
      *
@@ -129,22 +209,102 @@ public class QueryUtil {
         }
     }
 
+    @Autowired
+    public void setJpaProperties(JpaProperties jpaProperties) {
+        this.jpaProperties = jpaProperties;
+    }
+
     /**
-     * 读取查询语言
+     * 读取查询语言<br>文件内容及编译后的模版均会缓存
      *
      * @param filename 文件名
      * @param parameters 参数映射
      * @return 查询语言
      */
     public String readQL(final String filename, final Map<String, Object> parameters) {
+        return FreeMarkerUtil.render(filename, QL_MAP.computeIfAbsent(filename, QueryUtil::loadQL), parameters);
+    }
+
+    /**
+     * 读取查询语言<br>
+     * 按参数形态（是否为空、是否空集合及布尔值）缓存渲染结果，仅适用于模版只依据参数形态分支且不直接输出参数值的查询语言
+     *
+     * @param filename 文件名
+     * @param parameters 参数映射
+     * @param shapeCached 是否按参数形态缓存渲染结果
+     * @return 查询语言
+     */
+    public String readQL(final String filename, final Map<String, Object> parameters, boolean shapeCached) {
+        if (!shapeCached) return readQL(filename, parameters);
+        String key = filename + "#" + getShape(parameters);
+        String ql = RENDERED_QL_MAP.get(key);
+        if (ql == null) {
+            ql = readQL(filename, parameters);
+            RENDERED_QL_MAP.put(key, ql);
+        }
+        return ql;
+    }
+
+    /**
+     * 读取参数形态
+     *
+     * @param parameters 参数映射
+     * @return 参数形态
+     */
+    private static String getShape(final Map<String, Object> parameters) {
+        if (parameters == null || parameters.isEmpty()) return "";
+        StringBuilder builder = new StringBuilder();
+        new TreeMap<>(parameters).forEach((k, v) -> {
+            builder.append(k).append(':');
+            if (v == null) {
+                builder.append('0');
+            } else if (v instanceof Boolean b) {
+                builder.append(b ? 't' : 'f');
+            } else if ((v instanceof Collection<?> c && c.isEmpty()) || (v instanceof Map<?, ?> m && m.isEmpty()) || (v instanceof CharSequence cs && cs.isEmpty()) || (v.getClass().isArray() && Array.getLength(v) == 0)) {
+                builder.append('e');
+            } else {
+                builder.append('1');
+            }
+            builder.append(',');
+        });
+        return builder.toString();
+    }
+
+    /**
+     * 加载查询语言文件
+     *
+     * @param filename 文件名
+     * @return 文件内容
+     */
+    private static String loadQL(final String filename) {
         try (InputStream inputStream = QueryUtil.class.getResourceAsStream(filename)) {
-            String str = FileUtil.readAsString(inputStream, true);
-            return FreeMarkerUtil.render(filename, str, parameters);
+            if (inputStream == null) throw new CommonException("Cannot find query language file: " + filename);
+            return FileUtil.readAsString(inputStream, true);
         } catch (IOException e) {
             throw CommonException.newInstance(e);
         }
     }
 
+    /**
+     * 创建结构化只读只进游标
+     *
+     * @param sql 结构化语言
+     * @param parameters 参数映射
+     * @param requiredType 请求类型
+     * @param fetchSize 抓取大小
+     * @return 游标结果
+     * @param <T> 实体对象泛型
+     */
+    private <T extends Serializable> ScrollableResults<T> createNativeScroll(final String sql, final Map<String, Object> parameters, Class<T> requiredType, int fetchSize) {
+        Query query = createNativeQuery(sql, parameters, null);
+        unwrap(query, requiredType);
+
+        NativeQuery<T> nativeQuery = ObjectUtil.cast(query.unwrap(NativeQuery.class));
+        nativeQuery.setFetchSize(fetchSize);
+        nativeQuery.setReadOnly(true);
+        return nativeQuery.scroll(ScrollMode.FORWARD_ONLY);
+    }
+
     /**
      * @param query Query
      * @param type type
@@ -0,0 +1,51 @@
+package net.ufrog.easy.jpa.query;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * 游标分割器<br>推进时将上一个实体移出持久化上下文，会话为空时不做处理
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class ScrollSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    /** 会话 */
+    private final Session session;
+
+    /** 游标结果 */
+    private final ScrollableResults<T> results;
+
+    /** 上一个实体 */
+    private T previous;
+
+    /**
+     * 构造函数
+     *
+     * @param session 会话
+     * @param results 游标结果
+     */
+    public ScrollSpliterator(Session session, ScrollableResults<T> results) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.session = session;
+        this.results = results;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (previous != null) {
+            if (session != null) session.detach(previous);
+            previous = null;
+        }
+        if (!results.next()) return false;
+        previous = results.get();
+        action.accept(previous);
+        return true;
+    }
+}
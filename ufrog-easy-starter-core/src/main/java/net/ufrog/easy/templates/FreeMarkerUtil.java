@@ -6,6 +6,7 @@ import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import net.ufrog.easy.exceptions.CommonException;
 import net.ufrog.easy.utils.FileUtil;
+import net.ufrog.easy.utils.MapUtil;
 
 import java.io.IOException;
 import java.io.StringWriter;
@@ -16,11 +17,20 @@ import java.util.Map;
  * FreeMarker 工具
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-13
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 public class FreeMarkerUtil {
 
+    /** 模版缓存容量 */
+    private static final int MAX_TEMPLATES = 500;
+
+    /** 共享配置<br>配置完成后线程安全 */
+    private static final Configuration CONFIGURATION = createConfiguration();
+
+    /** 模版缓存<br>模版名称与已编译模版映射，超出容量时淘汰最久未使用的模版 */
+    private static final Map<String, CachedTemplate> TEMPLATE_MAP = MapUtil.lruMap(MAX_TEMPLATES);
+
     /** 构造函数<br>不允许外部构造 */
     private FreeMarkerUtil() {}
 
@@ -46,16 +56,70 @@ public class FreeMarkerUtil {
      */
     public static String render(String name, String source, Map<String, Object> data) {
         try {
-            Configuration configuration = new Configuration(Configuration.VERSION_2_3_30);
-            configuration.setDefaultEncoding(StandardCharsets.UTF_8.name());
-            configuration.setTemplateLoader(new StringTemplateLoader());
-
-            Template template = new Template(name, source, configuration);
             StringWriter writer = new StringWriter();
-            template.process(data, writer);
+            getTemplate(name, source).process(data, writer);
             return writer.toString();
         } catch (IOException | TemplateException e) {
             throw CommonException.newInstance(e);
         }
     }
+
+    /**
+     * 读取已编译模版<br>按模版名称缓存，模版内容变化时重新编译
+     *
+     * @param name 模版名称
+     * @param source 模版内容
+     * @return 模版
+     */
+    public static Template getTemplate(String name, String source) {
+        CachedTemplate cached = TEMPLATE_MAP.get(name);
+        if (cached == null || !cached.source.equals(source)) {
+            try {
+                cached = new CachedTemplate(source, new Template(name, source, CONFIGURATION));
+                TEMPLATE_MAP.put(name, cached);
+            } catch (IOException e) {
+                throw CommonException.newInstance(e);
+            }
+        }
+        return cached.template;
+    }
+
+    /**
+     * 创建配置
+     *
+     * @return 配置
+     */
+    private static Configuration createConfiguration() {
+        Configuration configuration = new Configuration(Configuration.VERSION_2_3_30);
+        configuration.setDefaultEncoding(StandardCharsets.UTF_8.name());
+        configuration.setTemplateLoader(new StringTemplateLoader());
+        return configuration;
+    }
+
+    /**
+     * 已编译模版
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    private static final class CachedTemplate {
+
+        /** 模版内容 */
+        private final String source;
+
+        /** 模版 */
+        private final Template template;
+
+        /**
+         * 构造函数
+         *
+         * @param source 模版内容
+         * @param template 模版
+         */
+        private CachedTemplate(String source, Template template) {
+            this.source = source;
+            this.template = template;
+        }
+    }
 }
@@ -8,7 +8,7 @@ import java.util.List;
  * 集合工具
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-13
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 public class CollectionUtil {
@@ -34,4 +34,21 @@ public class CollectionUtil {
         }
         return list;
     }
+
+    /**
+     * 按大小分割列表<br>返回原列表的子视图
+     *
+     * @param list 列表
+     * @param size 分段大小
+     * @return 分段列表
+     * @param <T> 元素泛型
+     */
+    public static <T> List<List<T>> partition(List<T> list, int size) {
+        if (size <= 0) throw new IllegalArgumentException("Partition size must be greater than 0.");
+        List<List<T>> partitions = new ArrayList<>((list.size() + size - 1) / size);
+        for (int i = 0; i < list.size(); i += size) {
+            partitions.add(list.subList(i, Math.min(i + size, list.size())));
+        }
+        return partitions;
+    }
 }
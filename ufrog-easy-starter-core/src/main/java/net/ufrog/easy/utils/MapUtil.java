@@ -2,6 +2,7 @@ package net.ufrog.easy.utils;
 
 import net.ufrog.easy.exceptions.CommonException;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -11,7 +12,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * 映射表工具
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-10
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 public class MapUtil {
@@ -66,6 +67,23 @@ public class MapUtil {
         return new MapBuilder<>(new ConcurrentHashMap<>());
     }
 
+    /**
+     * 最近最少使用映射表<br>线程安全，超出容量时移除最久未访问的内容
+     *
+     * @param maxSize 最大容量
+     * @return 映射表
+     * @param <K> 标识泛型
+     * @param <V> 内容泛型
+     */
+    public static <K, V> Map<K, V> lruMap(final int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
     /**
      * 放入所有内容
      *
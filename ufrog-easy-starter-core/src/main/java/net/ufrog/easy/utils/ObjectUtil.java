@@ -4,17 +4,28 @@ import jakarta.annotation.Nullable;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.ufrog.easy.exceptions.CommonException;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.*;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Stream;
@@ -23,14 +34,17 @@ import java.util.stream.Stream;
  * 对象工具
  *
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-10
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 @Slf4j
 public class ObjectUtil {
 
-    private static final Map<Class<?>, Map<String, ClassField>> CLASS_FIELD_MAP = new HashMap<>();
-    private static final Map<Class<?>, Class<?>> BASE_CLASS_MAP                 = new HashMap<>();
+    private static final Map<Class<?>, Map<String, ClassField>> CLASS_FIELD_MAP = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Class<?>> BASE_CLASS_MAP                 = new ConcurrentHashMap<>();
+
+    /** 复制计划缓存<br>目标类型与原始类型及按复制选项排列的复制计划映射，不随排除字段增长 */
+    private static final Map<Class<?>, Map<Class<?>, CopyPlan[]>> COPY_PLAN_MAP = new ConcurrentHashMap<>();
 
     static {
         BASE_CLASS_MAP.put(Byte.class, Byte.class);
@@ -89,6 +103,20 @@ public class ObjectUtil {
         return obj == null || obj instanceof Serializable;
     }
 
+    /**
+     * 复制对象
+     *
+     * @param dest 目标对象
+     * @param source 原始对象
+     * @param nullable 是否复制空值
+     * @param trim 是否修整字符串
+     * @return 目标对象
+     * @param <T> 目标对象泛型
+     */
+    public static <T> T copy(final T dest, final Object source, boolean nullable, boolean trim) {
+        return getCopyPlan(dest.getClass(), source.getClass(), nullable, trim).copy(dest, source);
+    }
+
     /**
      * 复制对象
      *
@@ -101,34 +129,29 @@ public class ObjectUtil {
      * @param <T> 目标对象泛型
      */
     public static <T> T copy(final T dest, final Object source, boolean nullable, boolean trim, String... excludeFields) {
-        Map<String, ClassField> mDestClassField = getAllClassFields(dest.getClass());
-        Map<String, ClassField> mSourceClassField = getAllClassFields(source.getClass());
-
-        // Loop dest class fields
-        mDestClassField.forEach((k, v) -> {
-            if (ArrayUtil.isEmpty(excludeFields) || !StringUtil.in(k, excludeFields)) {
-                if (mSourceClassField.containsKey(k)) {
-                    ClassField classField = mSourceClassField.get(k);
-                    Object value = classField.get(source);
-                    Class<?>[] params = v.getSetter().getParameterTypes();
-
-                    // Check params length and null
-                    if (params.length != 1 || !equalsClass(classField.getGetter().getReturnType(), params[0])) {
-                        log.trace("Cannot copy field {}.{}: {} to field {}.{}: {}.", classField.getClazz(), k, classField.getGetter().getReturnType(), v.getClazz(), k, params[0]);
-                    } else if (value == null && !nullable) {
-                        log.trace("Source field {} value is null, and nullable is false.", k);
-                    } else {
-                        if (value instanceof String str && trim) value = str.trim();
-                        v.set(dest, value);
-                    }
-                } else {
-                    log.trace("Cannot find field {} from source type {}.", k, source.getClass());
-                }
-            } else {
-                log.trace("Field '{}' is excluded.", k);
-            }
-        });
-        return dest;
+        return getCopyPlan(dest.getClass(), source.getClass(), nullable, trim).copy(dest, source, excludeFields);
+    }
+
+    /**
+     * 读取复制计划<br>
+     * 按目标类型、原始类型及复制选项编译并缓存，排除字段在复制时作为字段掩码传入，不参与编译，
+     * 因此每对类型最多编译四个计划；频繁复制时可持有返回的计划直接执行
+     *
+     * @param destType 目标类型
+     * @param sourceType 原始类型
+     * @param nullable 是否复制空值
+     * @param trim 是否修整字符串
+     * @return 复制计划
+     */
+    public static CopyPlan getCopyPlan(final Class<?> destType, final Class<?> sourceType, boolean nullable, boolean trim) {
+        CopyPlan[] plans = COPY_PLAN_MAP.computeIfAbsent(destType, k -> new ConcurrentHashMap<>()).computeIfAbsent(sourceType, k -> new CopyPlan[4]);
+        int index = (nullable ? 2 : 0) + (trim ? 1 : 0);
+        CopyPlan plan = plans[index];
+        if (plan == null) {
+            plan = new CopyPlan(destType, sourceType, nullable, trim);
+            plans[index] = plan;
+        }
+        return plan;
     }
 
     /**
@@ -523,4 +546,387 @@ public class ObjectUtil {
             return setter != null;
         }
     }
+
+    /**
+     * 复制计划<br>
+     * 编译时确定可复制字段并生成复制类，复制类按字段顺序直接调用读取及设置方法，执行时不再查找字段、判断类型及反射调用，只按字段掩码跳过排除字段；
+     * 目标类型无法定义复制类或无法访问原始类型时，通过 {@link LambdaMetafactory} 为各字段生成访问类
+     *
+     * @author ultrafrog, ufrog.net@gmail.com
+     * @version 3.5.3, 2026-10-19
+     * @since 3.5.3
+     */
+    public static final class CopyPlan {
+
+        private static final MethodType GETTER_TYPE     = MethodType.methodType(Object.class, Object.class);
+        private static final MethodType SETTER_TYPE     = MethodType.methodType(void.class, Object.class, Object.class);
+        private static final String OBJECT              = org.springframework.asm.Type.getInternalName(Object.class);
+        private static final String STRING              = org.springframework.asm.Type.getInternalName(String.class);
+        private static final String COPIER              = org.springframework.asm.Type.getInternalName(Copier.class);
+        private static final String COPIER_DESCRIPTOR   = "(Ljava/lang/Object;Ljava/lang/Object;[Z)V";
+
+        /** 可复制字段名称 */
+        private final String[] fields;
+
+        /** 复制类 */
+        private final Copier copier;
+
+        /**
+         * 构造函数
+         *
+         * @param destType 目标类型
+         * @param sourceType 原始类型
+         * @param nullable 是否复制空值
+         * @param trim 是否修整字符串
+         */
+        private CopyPlan(Class<?> destType, Class<?> sourceType, boolean nullable, boolean trim) {
+            Map<String, ClassField> mSourceClassField = getAllClassFields(sourceType);
+            List<String> lField = new ArrayList<>();
+            List<Method> lGetter = new ArrayList<>();
+            List<Method> lSetter = new ArrayList<>();
+
+            // Resolve copyable fields of dest type
+            getAllClassFields(destType).forEach((k, v) -> {
+                ClassField classField = mSourceClassField.get(k);
+                if (classField == null) {
+                    log.trace("Cannot find field {} from source type {}.", k, sourceType);
+                } else if (!classField.isGettable() || !v.isSettable() || !equalsClass(classField.getGetter().getReturnType(), v.getSetter().getParameterTypes()[0])) {
+                    log.trace("Cannot copy field {}.{} to field {}.{}.", classField.getClazz(), k, v.getClazz(), k);
+                } else {
+                    lField.add(k);
+                    lGetter.add(classField.getGetter());
+                    lSetter.add(v.getSetter());
+                }
+            });
+
+            Method[] getters = lGetter.toArray(Method[]::new);
+            Method[] setters = lSetter.toArray(Method[]::new);
+            this.fields = lField.toArray(String[]::new);
+            this.copier = Optional.ofNullable(generate(destType, sourceType, getters, setters, nullable, trim)).orElseGet(() -> accessors(getters, setters, nullable, trim));
+            log.debug("Compiled copy plan from {} to {} with {} field(s).", sourceType.getName(), destType.getName(), getters.length);
+        }
+
+        /**
+         * 复制对象<br>基础类型字段不复制空值
+         *
+         * @param dest 目标对象
+         * @param source 原始对象
+         * @return 目标对象
+         * @param <T> 目标对象泛型
+         */
+        public <T> T copy(final T dest, final Object source) {
+            copier.copy(dest, source, null);
+            return dest;
+        }
+
+        /**
+         * 复制对象<br>基础类型字段不复制空值
+         *
+         * @param dest 目标对象
+         * @param source 原始对象
+         * @param excludeFields 排除字段
+         * @return 目标对象
+         * @param <T> 目标对象泛型
+         */
+        public <T> T copy(final T dest, final Object source, String... excludeFields) {
+            return copy(dest, source, mask(excludeFields));
+        }
+
+        /**
+         * 复制对象<br>基础类型字段不复制空值
+         *
+         * @param dest 目标对象
+         * @param source 原始对象
+         * @param mask 字段掩码<br>由 {@link #mask(String...)} 生成，为空时复制全部字段
+         * @return 目标对象
+         * @param <T> 目标对象泛型
+         */
+        public <T> T copy(final T dest, final Object source, boolean[] mask) {
+            copier.copy(dest, source, mask);
+            return dest;
+        }
+
+        /**
+         * 生成字段掩码<br>排除字段对应位置为真，不包含可复制字段时返回空；频繁使用相同排除字段时可持有返回的掩码
+         *
+         * @param excludeFields 排除字段
+         * @return 字段掩码
+         */
+        public boolean[] mask(String... excludeFields) {
+            if (ArrayUtil.isEmpty(excludeFields)) return null;
+            boolean[] mask = new boolean[fields.length];
+            boolean masked = false;
+            for (int i = 0; i < fields.length; i++) {
+                for (String excludeField : excludeFields) {
+                    if (fields[i].equals(excludeField)) {
+                        mask[i] = masked = true;
+                        break;
+                    }
+                }
+            }
+            return masked ? mask : null;
+        }
+
+        /**
+         * 生成复制类<br>复制类作为目标类型的隐藏嵌套类定义，读取及设置方法须可从目标类型访问
+         *
+         * @param destType 目标类型
+         * @param sourceType 原始类型
+         * @param getters 读取方法
+         * @param setters 设置方法
+         * @param nullable 是否复制空值
+         * @param trim 是否修整字符串
+         * @return 复制类实例<br>无法生成时返回空
+         */
+        private static Copier generate(Class<?> destType, Class<?> sourceType, Method[] getters, Method[] setters, boolean nullable, boolean trim) {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(destType, MethodHandles.lookup());
+                for (int i = 0; i < getters.length; i++) {
+                    lookup.findVirtual(getters[i].getDeclaringClass(), getters[i].getName(), MethodType.methodType(getters[i].getReturnType()));
+                    lookup.findVirtual(setters[i].getDeclaringClass(), setters[i].getName(), MethodType.methodType(setters[i].getReturnType(), setters[i].getParameterTypes()));
+                    if (Class.forName(getters[i].getDeclaringClass().getName(), false, destType.getClassLoader()) != getters[i].getDeclaringClass()) return null;
+                }
+
+                byte[] bytes = bytecode(org.springframework.asm.Type.getInternalName(destType) + "$$Copier", getters, setters, nullable, trim);
+                Class<?> type = lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE).lookupClass();
+                return cast(lookup.findConstructor(type, MethodType.methodType(void.class)).invoke());
+            } catch (Throwable e) {
+                log.debug("Cannot generate copier from {} to {}, use accessors: {}", sourceType.getName(), destType.getName(), e.getMessage());
+                return null;
+            }
+        }
+
+        /**
+         * 生成复制类字节码<br>
+         * 各字段先按掩码判断是否排除，基础类型字段及复制空值且无需修整的字段直接传递，其余字段判断空值并按需修整字符串
+         *
+         * @param name 类名
+         * @param getters 读取方法
+         * @param setters 设置方法
+         * @param nullable 是否复制空值
+         * @param trim 是否修整字符串
+         * @return 字节码
+         */
+        private static byte[] bytecode(String name, Method[] getters, Method[] setters, boolean nullable, boolean trim) {
+            ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+                @Override
+                protected String getCommonSuperClass(String type1, String type2) {
+                    return OBJECT;
+                }
+            };
+            cw.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, name, null, OBJECT, new String[] {COPIER});
+
+            // Constructor
+            MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+            mv.visitInsn(Opcodes.RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+
+            // Copy method, local 1 is dest, local 2 is source, local 3 is mask and local 4 is current value
+            mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "copy", COPIER_DESCRIPTOR, null, null);
+            mv.visitCode();
+            for (int i = 0; i < getters.length; i++) {
+                Class<?> type = getters[i].getReturnType();
+                Class<?> paramType = setters[i].getParameterTypes()[0];
+                boolean trimmable = trim && type.isAssignableFrom(String.class);
+                Label lCopy = new Label();
+                Label lEnd = new Label();
+
+                mv.visitVarInsn(Opcodes.ALOAD, 3);
+                mv.visitJumpInsn(Opcodes.IFNULL, lCopy);
+                mv.visitVarInsn(Opcodes.ALOAD, 3);
+                mv.visitLdcInsn(i);
+                mv.visitInsn(Opcodes.BALOAD);
+                mv.visitJumpInsn(Opcodes.IFNE, lEnd);
+                mv.visitLabel(lCopy);
+                if (type.isPrimitive() || (nullable && !trimmable && !paramType.isPrimitive())) {
+                    mv.visitVarInsn(Opcodes.ALOAD, 1);
+                    mv.visitTypeInsn(Opcodes.CHECKCAST, org.springframework.asm.Type.getInternalName(setters[i].getDeclaringClass()));
+                    get(mv, getters[i]);
+                    if (type != paramType) box(mv, type);
+                    set(mv, setters[i]);
+                    mv.visitLabel(lEnd);
+                    continue;
+                }
+
+                Label lNull = new Label();
+                get(mv, getters[i]);
+                mv.visitVarInsn(Opcodes.ASTORE, 4);
+                mv.visitVarInsn(Opcodes.ALOAD, 4);
+                mv.visitJumpInsn(Opcodes.IFNULL, lNull);
+                if (trimmable) {
+                    Label lSkip = new Label();
+                    mv.visitVarInsn(Opcodes.ALOAD, 4);
+                    mv.visitTypeInsn(Opcodes.INSTANCEOF, STRING);
+                    mv.visitJumpInsn(Opcodes.IFEQ, lSkip);
+                    mv.visitVarInsn(Opcodes.ALOAD, 4);
+                    mv.visitTypeInsn(Opcodes.CHECKCAST, STRING);
+                    mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING, "trim", "()Ljava/lang/String;", false);
+                    mv.visitVarInsn(Opcodes.ASTORE, 4);
+                    mv.visitLabel(lSkip);
+                }
+                mv.visitVarInsn(Opcodes.ALOAD, 1);
+                mv.visitTypeInsn(Opcodes.CHECKCAST, org.springframework.asm.Type.getInternalName(setters[i].getDeclaringClass()));
+                mv.visitVarInsn(Opcodes.ALOAD, 4);
+                mv.visitTypeInsn(Opcodes.CHECKCAST, org.springframework.asm.Type.getInternalName(type));
+                if (paramType.isPrimitive()) unbox(mv, paramType);
+                set(mv, setters[i]);
+                mv.visitJumpInsn(Opcodes.GOTO, lEnd);
+                mv.visitLabel(lNull);
+                if (nullable && !paramType.isPrimitive()) {
+                    mv.visitVarInsn(Opcodes.ALOAD, 1);
+                    mv.visitTypeInsn(Opcodes.CHECKCAST, org.springframework.asm.Type.getInternalName(setters[i].getDeclaringClass()));
+                    mv.visitInsn(Opcodes.ACONST_NULL);
+                    set(mv, setters[i]);
+                }
+                mv.visitLabel(lEnd);
+            }
+            mv.visitInsn(Opcodes.RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+            cw.visitEnd();
+            return cw.toByteArray();
+        }
+
+        /**
+         * 生成读取指令<br>读取值位于栈顶
+         *
+         * @param mv 方法生成器
+         * @param getter 读取方法
+         */
+        private static void get(MethodVisitor mv, Method getter) {
+            String owner = org.springframework.asm.Type.getInternalName(getter.getDeclaringClass());
+            mv.visitVarInsn(Opcodes.ALOAD, 2);
+            mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, getter.getName(), org.springframework.asm.Type.getMethodDescriptor(getter), false);
+        }
+
+        /**
+         * 生成设置指令<br>丢弃设置方法返回值
+         *
+         * @param mv 方法生成器
+         * @param setter 设置方法
+         */
+        private static void set(MethodVisitor mv, Method setter) {
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, org.springframework.asm.Type.getInternalName(setter.getDeclaringClass()), setter.getName(), org.springframework.asm.Type.getMethodDescriptor(setter), false);
+            if (setter.getReturnType() == long.class || setter.getReturnType() == double.class) {
+                mv.visitInsn(Opcodes.POP2);
+            } else if (setter.getReturnType() != void.class) {
+                mv.visitInsn(Opcodes.POP);
+            }
+        }
+
+        /**
+         * 生成装箱指令
+         *
+         * @param mv 方法生成器
+         * @param type 基础类型
+         */
+        private static void box(MethodVisitor mv, Class<?> type) {
+            String owner = org.springframework.asm.Type.getInternalName(getType(type));
+            mv.visitMethodInsn(Opcodes.INVOKESTATIC, owner, "valueOf", "(" + org.springframework.asm.Type.getDescriptor(type) + ")L" + owner + ";", false);
+        }
+
+        /**
+         * 生成开箱指令<br>栈顶为包装类型
+         *
+         * @param mv 方法生成器
+         * @param type 基础类型
+         */
+        private static void unbox(MethodVisitor mv, Class<?> type) {
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, org.springframework.asm.Type.getInternalName(getType(type)), type.getName() + "Value", "()" + org.springframework.asm.Type.getDescriptor(type), false);
+        }
+
+        /**
+         * 生成各字段访问类并组合为复制对象
+         *
+         * @param getters 读取方法
+         * @param setters 设置方法
+         * @param nullable 是否复制空值
+         * @param trim 是否修整字符串
+         * @return 复制对象
+         */
+        private static Copier accessors(Method[] getters, Method[] setters, boolean nullable, boolean trim) {
+            Function<Object, Object>[] fGetters = cast(new Function[getters.length]);
+            BiConsumer<Object, Object>[] fSetters = cast(new BiConsumer[setters.length]);
+            boolean[] trims = new boolean[getters.length];
+            boolean[] nulls = new boolean[getters.length];
+            for (int i = 0; i < getters.length; i++) {
+                fGetters[i] = cast(accessor(getters[i], Function.class, "apply", GETTER_TYPE));
+                fSetters[i] = cast(accessor(setters[i], BiConsumer.class, "accept", SETTER_TYPE));
+                trims[i] = trim && getters[i].getReturnType().isAssignableFrom(String.class);
+                nulls[i] = nullable && !setters[i].getParameterTypes()[0].isPrimitive();
+            }
+
+            return (dest, source, mask) -> {
+                for (int i = 0; i < fGetters.length; i++) {
+                    if (mask != null && mask[i]) continue;
+                    Object value = fGetters[i].apply(source);
+                    if (value != null) {
+                        fSetters[i].accept(dest, trims[i] && value instanceof String str ? str.trim() : value);
+                    } else if (nulls[i]) {
+                        fSetters[i].accept(dest, null);
+                    }
+                }
+            };
+        }
+
+        /**
+         * 生成访问类<br>访问类定义在方法声明类型中，可访问非公开类型及方法
+         *
+         * @param method 方法
+         * @param type 函数接口类型
+         * @param name 函数接口方法名称
+         * @param erased 函数接口方法类型
+         * @return 访问对象
+         */
+        private static Object accessor(Method method, Class<?> type, String name, MethodType erased) {
+            try {
+                MethodHandles.Lookup lookup = lookup(method.getDeclaringClass());
+                MethodHandle handle = lookup.unreflect(method);
+                MethodType instantiated = handle.type().wrap().changeReturnType(erased.returnType() == void.class ? void.class : handle.type().wrap().returnType());
+                return LambdaMetafactory.metafactory(lookup, name, MethodType.methodType(type), erased, handle, instantiated).getTarget().invoke();
+            } catch (Throwable e) {
+                throw CommonException.newInstance(e);
+            }
+        }
+
+        /**
+         * 读取查找对象<br>无法访问类型私有成员时使用当前类查找对象
+         *
+         * @param type 类型
+         * @return 查找对象
+         */
+        private static MethodHandles.Lookup lookup(Class<?> type) {
+            try {
+                return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            } catch (IllegalAccessException e) {
+                log.debug("Cannot access private members of type {}: {}", type.getName(), e.getMessage());
+                return MethodHandles.lookup();
+            }
+        }
+
+        /**
+         * 复制类接口<br>由生成的复制类或字段访问类组合实现
+         *
+         * @author ultrafrog, ufrog.net@gmail.com
+         * @version 3.5.3, 2026-10-19
+         * @since 3.5.3
+         */
+        @FunctionalInterface
+        public interface Copier {
+
+            /**
+             * 复制对象
+             *
+             * @param dest 目标对象
+             * @param source 原始对象
+             * @param mask 字段掩码<br>为空时复制全部字段
+             */
+            void copy(Object dest, Object source, boolean[] mask);
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package net.ufrog.easy.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 线程工具
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@Slf4j
+public class ThreadUtil {
+
+    public static final String EXECUTOR_VIRTUAL     = "virtual";
+    public static final String EXECUTOR_PLATFORM    = "platform";
+
+    /** 构造函数<br>不允许外部构造 */
+    private ThreadUtil() {}
+
+    /**
+     * 创建虚拟线程执行器<br>运行环境不支持虚拟线程时返回空
+     *
+     * @return 执行器
+     */
+    public static Optional<ExecutorService> newVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) method.invoke(null));
+        } catch (ReflectiveOperationException e) {
+            log.trace("Virtual threads are not supported.", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 创建执行器<br>类型为 virtual 且运行环境支持时使用虚拟线程，否则使用固定数量的守护线程
+     *
+     * @param type 执行器类型
+     * @param threads 线程数量
+     * @param namePrefix 线程名称前缀
+     * @return 执行器
+     */
+    public static ExecutorService newExecutor(String type, int threads, String namePrefix) {
+        if (StringUtil.equals(EXECUTOR_VIRTUAL, type)) {
+            Optional<ExecutorService> executor = newVirtualThreadExecutor();
+            if (executor.isPresent()) return executor.get();
+            log.warn("Virtual threads are not supported, use {} platform thread(s) instead.", threads);
+        }
+        return Executors.newFixedThreadPool(threads, newThreadFactory(namePrefix));
+    }
+
+    /**
+     * 创建线程工厂<br>线程均为守护线程
+     *
+     * @param namePrefix 线程名称前缀
+     * @return 线程工厂
+     */
+    public static ThreadFactory newThreadFactory(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package net.ufrog.easy.contracts.requests;
+
+import net.ufrog.easy.exceptions.InvalidArgumentException;
+import net.ufrog.easy.jpa.QEasyModel;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class QueryRequestTests {
+
+    @Test
+    public void testIn() {
+        QueryRequest request = new QueryRequest();
+        request.getCriteria().add(newCriteria("id", QueryRequest.Operation.IN, "1, 2,3", null));
+        Assert.assertEquals("easyModel.id in [1, 2, 3]", request.getPredicate(QEasyModel.easyModel, 1000).toString());
+
+        request = new QueryRequest();
+        request.getCriteria().add(newCriteria("id", QueryRequest.Operation.IN, null, IntStream.range(0, 2500).mapToObj(String::valueOf).toList()));
+        Assert.assertEquals(3, request.getPredicate(QEasyModel.easyModel, 1000).toString().split(" \\|\\| ").length);
+        Assert.assertEquals(5, request.getPredicate(QEasyModel.easyModel, 500).toString().split(" \\|\\| ").length);
+    }
+
+    @Test
+    public void testBetween() {
+        QueryRequest request = new QueryRequest();
+        request.getCriteria().add(newCriteria("id", QueryRequest.Operation.BETWEEN, null, List.of("10", "20")));
+        Assert.assertEquals("easyModel.id between 10 and 20", request.getPredicate(QEasyModel.easyModel, 1000).toString());
+
+        QueryRequest invalid = new QueryRequest();
+        invalid.getCriteria().add(newCriteria("id", QueryRequest.Operation.BETWEEN, "10", null));
+        Assert.assertThrows(InvalidArgumentException.class, () -> invalid.getPredicate(QEasyModel.easyModel, 1000));
+    }
+
+    @Test
+    public void testPathTypes() {
+        QueryRequest request = new QueryRequest();
+        request.getCriteria().add(newCriteria("createTime", QueryRequest.Operation.GOE, "2026-10-19", null));
+        request.getCriteria().add(newCriteria("isDeleted", QueryRequest.Operation.STARTS_WITH, "0", null));
+        request.getCriteria().add(newCriteria("creator", QueryRequest.Operation.LIKE, "1", null));
+        request.getCriteria().add(newCriteria("unknown", QueryRequest.Operation.EQ, "1", null));
+        Assert.assertEquals("easyModel.createTime >= " + toDate("2026-10-19") + " && startsWith(easyModel.isDeleted,0)", request.getPredicate(QEasyModel.easyModel, 1000).toString());
+
+        QueryRequest invalid = new QueryRequest();
+        invalid.getCriteria().add(newCriteria("createTime", QueryRequest.Operation.EQ, "yesterday", null));
+        Assert.assertThrows(InvalidArgumentException.class, () -> invalid.getPredicate(QEasyModel.easyModel, 1000));
+    }
+
+    @Test
+    public void testEmptyValue() {
+        QueryRequest request = new QueryRequest();
+        request.getCriteria().add(newCriteria("isDeleted", QueryRequest.Operation.EQ, "", null));
+        request.getCriteria().add(newCriteria("isDeleted", QueryRequest.Operation.NE, null, null));
+        request.getCriteria().add(newCriteria("creator", QueryRequest.Operation.EQ, "", null));
+        Assert.assertEquals("easyModel.isDeleted = ", request.getPredicate(QEasyModel.easyModel, 1000).toString());
+    }
+
+    private static Date toDate(String date) {
+        return Date.from(LocalDate.parse(date).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static QueryRequest.Criteria newCriteria(String property, QueryRequest.Operation operation, String value, List<String> values) {
+        QueryRequest.Criteria criteria = new QueryRequest.Criteria();
+        criteria.setProperty(property);
+        criteria.setOperation(operation);
+        criteria.setValue(value);
+        criteria.setValues(values);
+        return criteria;
+    }
+}
@@ -0,0 +1,49 @@
+package net.ufrog.easy.contracts.responses;
+
+import lombok.Getter;
+import lombok.Setter;
+import net.ufrog.easy.jpa.EasyModel;
+import net.ufrog.easy.jpa.QEasyModel;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Set;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class DataResponseTests {
+
+    @Test
+    public void testBuildFields() {
+        EasyModel model = new EasyModel();
+        model.setId(1L);
+        model.setCreator(2L);
+        model.setUpdater(3L);
+
+        ModelResponse all = new ModelResponse().build(model, true);
+        Assert.assertEquals(Long.valueOf(3L), all.getUpdater());
+
+        ModelResponse sparse = new ModelResponse().build(model, true, Set.of("creator", "unknown"));
+        Assert.assertEquals(1L, sparse.getId());
+        Assert.assertEquals(Long.valueOf(2L), sparse.getCreator());
+        Assert.assertNull(sparse.getUpdater());
+    }
+
+    @Test
+    public void testProjectionFields() {
+        Assert.assertEquals(3, new ResponseProjection<>(QEasyModel.easyModel, ModelResponse.class, true).getArgs().size());
+        Assert.assertEquals(2, new ResponseProjection<>(QEasyModel.easyModel, ModelResponse.class, true, Set.of("creator")).getArgs().size());
+    }
+
+    @Getter
+    @Setter
+    public static class ModelResponse extends DataResponse {
+
+        private Long creator;
+
+        private Long updater;
+    }
+}
@@ -0,0 +1,75 @@
+package net.ufrog.easy.datasource;
+
+import net.ufrog.easy.ApplicationRequest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class RoutingDataSourceTests {
+
+    @After
+    public void clear() {
+        ApplicationRequest.setCurrent(null);
+    }
+
+    @Test
+    public void testRoundRobin() {
+        DataSource dataSource = createRouting("round-robin", "rr");
+        TransactionTemplate readOnly = createTemplate(dataSource, true);
+        TransactionTemplate readWrite = createTemplate(dataSource, false);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        Assert.assertEquals("primary", readWrite.execute(s -> jdbcTemplate.queryForObject("select name from node", String.class)));
+        Assert.assertEquals("replica1", readOnly.execute(s -> jdbcTemplate.queryForObject("select name from node", String.class)));
+        Assert.assertEquals("replica2", readOnly.execute(s -> jdbcTemplate.queryForObject("select name from node", String.class)));
+        Assert.assertEquals("replica1", readOnly.execute(s -> jdbcTemplate.queryForObject("select name from node", String.class)));
+    }
+
+    @Test
+    public void testSticky() {
+        DataSource dataSource = createRouting("least-busy", "sticky");
+        TransactionTemplate readOnly = createTemplate(dataSource, true);
+        TransactionTemplate readWrite = createTemplate(dataSource, false);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        ApplicationRequest.setCurrent(new ApplicationRequest(null, null));
+        Assert.assertTrue(readOnly.execute(s -> jdbcTemplate.queryForObject("select name from node", String.class)).startsWith("replica"));
+        readWrite.executeWithoutResult(s -> jdbcTemplate.update("update node set name = name"));
+        Assert.assertEquals("primary", readOnly.execute(s -> jdbcTemplate.queryForObject("select name from node", String.class)));
+    }
+
+    private DataSource createRouting(String balance, String prefix) {
+        DataSource primary = createDatabase(prefix + "_primary", "primary");
+        List<DataSource> replicas = List.of(createDatabase(prefix + "_replica1", "replica1"), createDatabase(prefix + "_replica2", "replica2"));
+        RoutingDataSource routingDataSource = new RoutingDataSource(primary, replicas, balance, true);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private DataSource createDatabase(String database, String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node values (?)", name);
+        return dataSource;
+    }
+
+    private TransactionTemplate createTemplate(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        return template;
+    }
+}
@@ -0,0 +1,52 @@
+package net.ufrog.easy.jpa;
+
+import net.ufrog.easy.ApplicationRequest;
+import net.ufrog.easy.utils.ThreadUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class AsyncServiceExecutorTests {
+
+    @After
+    public void clear() {
+        ApplicationRequest.setCurrent(null);
+    }
+
+    @Test
+    public void testSupply() {
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(new DriverManagerDataSource("jdbc:h2:mem:async;DB_CLOSE_DELAY=-1", "sa", ""));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        ApplicationRequest request = new ApplicationRequest(null, null);
+        ApplicationRequest.setCurrent(request);
+
+        try (AsyncServiceExecutor executor = new AsyncServiceExecutor(transactionManager, ThreadUtil.newExecutor(ThreadUtil.EXECUTOR_VIRTUAL, 2, "test-"), 2)) {
+            List<CompletableFuture<Boolean>> futures = IntStream.range(0, 8).mapToObj(i -> executor.supply(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && ApplicationRequest.getCurrent().orElse(null) == request;
+            })).toList();
+            futures.forEach(future -> Assert.assertTrue(future.join()));
+        }
+        Assert.assertTrue(peak.get() <= 2);
+    }
+}
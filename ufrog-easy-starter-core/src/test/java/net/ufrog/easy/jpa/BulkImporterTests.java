@@ -0,0 +1,94 @@
+package net.ufrog.easy.jpa;
+
+import net.ufrog.easy.configurations.properties.JpaProperties;
+import net.ufrog.easy.utils.ThreadUtil;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class BulkImporterTests {
+
+    @Test
+    public void testImportAll() {
+        JpaProperties.Bulk bulk = new JpaProperties.Bulk();
+        bulk.setChunkSize(100);
+        bulk.setParallelism(3);
+        bulk.setRetries(1);
+
+        // Chunk 2 fails once, chunk 5 always fails
+        Set<Integer> failedOnce = ConcurrentHashMap.newKeySet();
+        AtomicInteger commits = new AtomicInteger();
+        EasyService<EasyModel> service = newService(chunk -> {
+            long first = chunk.get(0).getId();
+            if (first == 500 || (first == 200 && failedOnce.add(2))) throw new IllegalStateException("chunk " + first);
+            return (long) chunk.size();
+        });
+        AtomicInteger progress = new AtomicInteger();
+
+        try (BulkImporter importer = new BulkImporter(new StubTransactionManager(commits), ThreadUtil.newExecutor(ThreadUtil.EXECUTOR_PLATFORM, 3, "test-"), bulk)) {
+            BulkImportResult result = importer.importAll(service, IntStream.range(0, 1050).mapToObj(BulkImporterTests::newModel), r -> progress.incrementAndGet());
+            Assert.assertEquals(11, result.getSubmittedChunks());
+            Assert.assertEquals(11, result.getCompletedChunks());
+            Assert.assertEquals(11, progress.get());
+            Assert.assertEquals(950, result.getSucceeded());
+            Assert.assertEquals(100, result.getFailed());
+            Assert.assertEquals(2, result.getRetries());
+            Assert.assertEquals(5, result.getFailures().get(0).getIndex());
+            Assert.assertEquals(10, commits.get());
+            Assert.assertFalse(result.isSuccessful());
+        }
+    }
+
+    private static EasyModel newModel(int id) {
+        EasyModel model = new EasyModel();
+        model.setId((long) id);
+        return model;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EasyService<EasyModel> newService(java.util.function.Function<List<EasyModel>, Long> persist) {
+        return (EasyService<EasyModel>) Proxy.newProxyInstance(EasyService.class.getClassLoader(), new Class<?>[] {EasyService.class}, (proxy, method, args) -> {
+            if ("persistInBatch".equals(method.getName())) return persist.apply((List<EasyModel>) args[0]);
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static final class StubTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final AtomicInteger commits;
+
+        private StubTransactionManager(AtomicInteger commits) {
+            this.commits = commits;
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            commits.incrementAndGet();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {}
+    }
+}
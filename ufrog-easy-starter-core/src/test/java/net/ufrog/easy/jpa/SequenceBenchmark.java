@@ -0,0 +1,50 @@
+package net.ufrog.easy.jpa;
+
+import cn.izern.sequence.Sequence;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 编号生成基准测试<br>
+ * 对比单实例同步序列与多通道序列在多线程下的吞吐量，运行 {@link #main(String[])} 执行
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class SequenceBenchmark {
+
+    private final Sequence sequence = new Sequence(1, 1);
+    private final StripedSequence stripedSequence = new StripedSequence(1, 1, 8);
+
+    @Benchmark
+    public long sequence() {
+        return sequence.nextId();
+    }
+
+    @Benchmark
+    public long striped() {
+        return stripedSequence.nextId();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public long[] stripedBlock() {
+        return stripedSequence.nextIds(100);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SequenceBenchmark.class.getSimpleName()).build()).run();
+    }
+}
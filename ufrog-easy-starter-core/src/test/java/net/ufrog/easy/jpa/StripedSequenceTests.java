@@ -0,0 +1,49 @@
+package net.ufrog.easy.jpa;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class StripedSequenceTests {
+
+    @Test
+    public void testNextIds() {
+        StripedSequence sequence = new StripedSequence(1, 1, 4);
+        long[] ids = sequence.nextIds(5000);
+        for (int i = 1; i < ids.length; i++) {
+            Assert.assertTrue(ids[i] > ids[i - 1]);
+        }
+        Assert.assertTrue(sequence.nextId() > ids[ids.length - 1]);
+        Assert.assertEquals(1L, (ids[0] >> 12) & 31);
+        Assert.assertEquals(1L, (ids[0] >> 17) & 31);
+    }
+
+    @Test
+    public void testConcurrent() throws InterruptedException {
+        StripedSequence sequence = new StripedSequence(3, 2, 8);
+        Set<Long> set = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 20000; j++) set.add(sequence.nextId());
+                for (long id : sequence.nextIds(1000)) set.add(id);
+                latch.countDown();
+            });
+        }
+        Assert.assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        Assert.assertEquals(8 * 21000, set.size());
+    }
+}
@@ -0,0 +1,39 @@
+package net.ufrog.easy.jpa.cache;
+
+import net.ufrog.easy.caches.CacheUtil;
+import net.ufrog.easy.configurations.properties.CacheProperties;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class CacheStorageAccessTests {
+
+    @BeforeClass
+    public static void init() {
+        CacheUtil.init(new CacheProperties());
+    }
+
+    @Test
+    public void testPutAndEvict() {
+        CacheStorageAccess storageAccess = new CacheStorageAccess("test.Entity", 60);
+        storageAccess.putIntoCache(1L, "one", null);
+        storageAccess.putIntoCache(List.of("query", 2), "two", null);
+        Assert.assertEquals("one", storageAccess.getFromCache(1L, null));
+        Assert.assertEquals("two", storageAccess.getFromCache(List.of("query", 2), null));
+
+        storageAccess.evictData(1L);
+        Assert.assertFalse(storageAccess.contains(1L));
+        Assert.assertTrue(storageAccess.contains(List.of("query", 2)));
+
+        storageAccess.evictData();
+        Assert.assertFalse(storageAccess.contains(List.of("query", 2)));
+        Assert.assertFalse(new CacheStorageAccess("test.Entity", 60).contains(List.of("query", 2)));
+    }
+}
@@ -0,0 +1,53 @@
+package net.ufrog.easy.jpa.monitor;
+
+import net.ufrog.easy.ApplicationRequest;
+import net.ufrog.easy.datasource.MonitoredDataSource;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class StatementMonitorTests {
+
+    @After
+    public void clear() {
+        ApplicationRequest.setCurrent(null);
+        StatementMonitor.reset();
+    }
+
+    @Test
+    public void testGetShape() {
+        Assert.assertEquals("select * from t where id in (?, ...) and name = ?", StatementMonitor.getShape("select *  from t\n where id in (?, ?, ?) and name = 'a''b'"));
+        Assert.assertEquals("select * from t1 where id = ?", StatementMonitor.getShape("select * from t1 where id = 12"));
+    }
+
+    @Test
+    public void testRecord() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new MonitoredDataSource(new DriverManagerDataSource("jdbc:h2:mem:monitor;DB_CLOSE_DELAY=-1")));
+        ApplicationRequest applicationRequest = new ApplicationRequest(new MockHttpServletRequest("GET", "/test"), new MockHttpServletResponse());
+        ApplicationRequest.setCurrent(applicationRequest);
+
+        jdbcTemplate.execute("create table item (id bigint primary key)");
+        for (long i = 0; i < 12; i++) jdbcTemplate.update("insert into item values (?)", i);
+        for (long i = 0; i < 12; i++) jdbcTemplate.queryForObject("select id from item where id = ?", Long.class, i);
+
+        RequestStatements statements = applicationRequest.getStatements();
+        Assert.assertEquals(25, statements.getCount());
+        Assert.assertEquals(Integer.valueOf(12), statements.getShapes().get("select id from item where id = ?"));
+
+        List<ShapeStats> shapeStats = StatementMonitor.getShapeStats();
+        Assert.assertEquals(3, shapeStats.size());
+        Assert.assertTrue(shapeStats.stream().anyMatch(s -> s.getShape().equals("insert into item values (?)") && s.getCount() == 12));
+        StatementMonitor.complete(applicationRequest);
+    }
+}
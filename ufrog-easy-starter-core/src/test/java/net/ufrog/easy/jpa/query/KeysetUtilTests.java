@@ -0,0 +1,85 @@
+package net.ufrog.easy.jpa.query;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.PathBuilder;
+import lombok.Getter;
+import lombok.Setter;
+import net.ufrog.easy.exceptions.InvalidArgumentException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class KeysetUtilTests {
+
+    @Test
+    public void testToKeysetSort() {
+        Assert.assertEquals(Sort.by("id"), KeysetUtil.toKeysetSort(Sort.unsorted()));
+        Assert.assertEquals(Sort.by(Sort.Order.desc("name"), Sort.Order.asc("id")), KeysetUtil.toKeysetSort(Sort.by(Sort.Order.desc("name"))));
+        Assert.assertEquals(Sort.by(Sort.Order.desc("id")), KeysetUtil.toKeysetSort(Sort.by(Sort.Order.desc("id"))));
+    }
+
+    @Test
+    public void testEncodeAndDecode() {
+        Sort sort = KeysetUtil.toKeysetSort(Sort.by(Sort.Order.desc("createTime"), Sort.Order.asc("amount")));
+        Row row = new Row(7L, "seven", LocalDateTime.of(2026, 10, 19, 8, 0), new BigDecimal("1.50"));
+        Object[] values = KeysetUtil.decode(KeysetUtil.encode(row, sort), Row.class, sort);
+        Assert.assertArrayEquals(new Object[] {row.getCreateTime(), row.getAmount(), row.getId()}, values);
+    }
+
+    @Test
+    public void testGetPredicate() {
+        PathBuilder<Row> root = new PathBuilder<>(Row.class, "row");
+        Sort sort = KeysetUtil.toKeysetSort(Sort.by(Sort.Order.desc("name")));
+        Predicate predicate = KeysetUtil.getPredicate(root, sort, new Object[] {"seven", 7L});
+        Assert.assertEquals("row.name < seven || row.name = seven && row.id > 7", predicate.toString());
+    }
+
+    @Test
+    public void testInvalidSort() {
+        Sort sort = KeysetUtil.toKeysetSort(Sort.by("unknown"));
+        Assert.assertThrows(InvalidArgumentException.class, () -> KeysetUtil.validate(Row.class, sort));
+        Assert.assertThrows(InvalidArgumentException.class, () -> KeysetUtil.encode(new Row(1L, null, null, null), KeysetUtil.toKeysetSort(Sort.by("name"))));
+    }
+
+    @Test
+    public void testInvalidCursor() {
+        Sort sort = KeysetUtil.toKeysetSort(Sort.by("createTime"));
+        Assert.assertThrows(InvalidArgumentException.class, () -> KeysetUtil.decode("not-a-cursor", Row.class, sort));
+        Assert.assertThrows(InvalidArgumentException.class, () -> KeysetUtil.decode(toCursor("[\"2026-13-01T00:00\",1]"), Row.class, sort));
+        Assert.assertThrows(InvalidArgumentException.class, () -> KeysetUtil.decode(toCursor("[\"2026-10-19T08:00\",\"x\"]"), Row.class, sort));
+        Assert.assertThrows(InvalidArgumentException.class, () -> KeysetUtil.decode(toCursor("[null,1]"), Row.class, sort));
+        Assert.assertThrows(InvalidArgumentException.class, () -> KeysetUtil.decode(toCursor("[\"2026-10-19T08:00\"]"), Row.class, sort));
+    }
+
+    private static String toCursor(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Getter
+    @Setter
+    public static class Row implements Serializable {
+
+        private Long id;
+        private String name;
+        private LocalDateTime createTime;
+        private BigDecimal amount;
+
+        public Row(Long id, String name, LocalDateTime createTime, BigDecimal amount) {
+            this.id = id;
+            this.name = name;
+            this.createTime = createTime;
+            this.amount = amount;
+        }
+    }
+}
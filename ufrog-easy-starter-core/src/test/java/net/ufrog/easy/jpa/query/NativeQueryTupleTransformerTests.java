@@ -0,0 +1,47 @@
+package net.ufrog.easy.jpa.query;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class NativeQueryTupleTransformerTests {
+
+    @Test
+    public void testTransformTuple() {
+        NativeQueryTupleTransformer<Row> transformer = new NativeQueryTupleTransformer<>(Row.class);
+        String[] aliases = {"id", "TOTAL_AMOUNT", "count", "create_time", "unknown"};
+        LocalDateTime now = LocalDateTime.of(2026, 10, 19, 8, 0);
+
+        Row row = transformer.transformTuple(new Object[] {1L, 12.5d, new BigDecimal("3"), Timestamp.valueOf(now), "x"}, aliases);
+        Assert.assertEquals(Long.valueOf(1L), row.getId());
+        Assert.assertEquals(new BigDecimal("12.5"), row.getTotalAmount());
+        Assert.assertEquals(3, row.getCount());
+        Assert.assertEquals(now, row.getCreateTime());
+
+        row = transformer.transformTuple(new Object[] {2L, null, null, null, null}, aliases);
+        Assert.assertEquals(Long.valueOf(2L), row.getId());
+        Assert.assertNull(row.getTotalAmount());
+        Assert.assertEquals(0, row.getCount());
+    }
+
+    @Getter
+    @Setter
+    public static class Row implements Serializable {
+
+        private Long id;
+        private BigDecimal totalAmount;
+        private int count;
+        private LocalDateTime createTime;
+    }
+}
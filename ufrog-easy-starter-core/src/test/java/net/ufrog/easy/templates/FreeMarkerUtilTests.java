@@ -8,7 +8,7 @@ import java.util.Map;
 
 /**
  * @author ultrafrog, ufrog.net@gmail.com
- * @version 3.5.3, 2025-11-13
+ * @version 3.5.3, 2026-10-19
  * @since 3.5.3
  */
 public class FreeMarkerUtilTests {
@@ -22,4 +22,14 @@ public class FreeMarkerUtilTests {
         Assert.assertEquals("Hello World", FreeMarkerUtil.render("test", template, map));
         Assert.assertEquals("Hello World", FreeMarkerUtil.render("template.tpl", map).trim());
     }
+
+    @Test
+    public void testTemplateCache() {
+        Map<String, Object> map = new HashMap<>();
+
+        map.put("name", "World");
+        for (int i = 0; i < 1000; i++) Assert.assertEquals("Hello World " + i, FreeMarkerUtil.render("cached-" + i, "Hello ${name} " + i, map));
+        Assert.assertSame(FreeMarkerUtil.getTemplate("cached-999", "Hello ${name} 999"), FreeMarkerUtil.getTemplate("cached-999", "Hello ${name} 999"));
+        Assert.assertEquals("Hello World 0", FreeMarkerUtil.render("cached-0", "Hello ${name} 0", map));
+    }
 }
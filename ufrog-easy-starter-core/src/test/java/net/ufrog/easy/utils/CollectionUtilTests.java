@@ -0,0 +1,28 @@
+package net.ufrog.easy.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class CollectionUtilTests {
+
+    @Test
+    public void testPartition() {
+        List<Integer> list = IntStream.range(0, 2501).boxed().collect(Collectors.toList());
+        List<List<Integer>> partitions = CollectionUtil.partition(list, 1000);
+
+        Assert.assertEquals(3, partitions.size());
+        Assert.assertEquals(1000, partitions.get(0).size());
+        Assert.assertEquals(501, partitions.get(2).size());
+        Assert.assertEquals(Integer.valueOf(2500), partitions.get(2).get(500));
+        Assert.assertTrue(CollectionUtil.partition(List.of(), 10).isEmpty());
+    }
+}
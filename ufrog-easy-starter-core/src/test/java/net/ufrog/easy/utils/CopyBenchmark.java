@@ -0,0 +1,72 @@
+package net.ufrog.easy.utils;
+
+import net.ufrog.easy.utils.beans.A;
+import net.ufrog.easy.utils.beans.B;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对象复制基准测试<br>
+ * 对比手写复制、预先持有的复制计划、按类型查找计划的复制及逐字段反射复制的耗时，运行 {@link #main(String[])} 执行
+ *
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CopyBenchmark {
+
+    private final A source = new A(1, 2L, 3, 4L, " e ", new Date());
+    private final B dest = new B();
+    private final ObjectUtil.CopyPlan plan = ObjectUtil.getCopyPlan(B.class, A.class, false, true);
+    private final Map<String, ObjectUtil.ClassField> mDestClassField = ObjectUtil.getAllClassFields(B.class);
+    private final Map<String, ObjectUtil.ClassField> mSourceClassField = ObjectUtil.getAllClassFields(A.class);
+
+    @Benchmark
+    public B handWritten() {
+        dest.setA(source.getA());
+        dest.setB(source.getB());
+        if (source.getC() != null) dest.setC(source.getC());
+        if (source.getD() != null) dest.setD(source.getD());
+        if (source.getE() != null) dest.setE(source.getE().trim());
+        if (source.getF() != null) dest.setF(source.getF());
+        return dest;
+    }
+
+    @Benchmark
+    public B plan() {
+        return plan.copy(dest, source);
+    }
+
+    @Benchmark
+    public B copy() {
+        return ObjectUtil.copy(dest, source, false, true);
+    }
+
+    @Benchmark
+    public B reflection() {
+        mDestClassField.forEach((k, v) -> {
+            ObjectUtil.ClassField classField = mSourceClassField.get(k);
+            if (classField != null && ObjectUtil.equalsClass(classField.getGetter().getReturnType(), v.getSetter().getParameterTypes()[0])) {
+                Object value = classField.get(source);
+                if (value != null) v.set(dest, value instanceof String str ? str.trim() : value);
+            }
+        });
+        return dest;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CopyBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,74 @@
+package net.ufrog.easy.utils;
+
+import lombok.Getter;
+import lombok.Setter;
+import net.ufrog.easy.utils.beans.A;
+import net.ufrog.easy.utils.beans.B;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Date;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+public class ObjectUtilTests {
+
+    @Test
+    public void testCopy() {
+        Date date = new Date();
+        B b = ObjectUtil.copy(new B(), new A(1, 2L, null, 4L, " e ", date), false, true);
+        Assert.assertEquals(Integer.valueOf(1), b.getA());
+        Assert.assertEquals(2L, b.getB());
+        Assert.assertEquals(0, b.getC());
+        Assert.assertEquals(Long.valueOf(4L), b.getD());
+        Assert.assertEquals("e", b.getE());
+        Assert.assertSame(date, b.getF());
+
+        A a = ObjectUtil.copy(new A(9, 9L, 9, 9L, "a", date), b, true, false);
+        Assert.assertEquals(0, a.getC().intValue());
+        Assert.assertEquals("e", a.getE());
+
+        B nulls = new B();
+        nulls.setA(null);
+        a = ObjectUtil.copy(new A(9, 9L, 9, 9L, "a", date), nulls, true, false, "f");
+        Assert.assertEquals(9, a.getA());
+        Assert.assertNull(a.getD());
+        Assert.assertSame(date, a.getF());
+    }
+
+    @Test
+    public void testGetCopyPlan() {
+        ObjectUtil.CopyPlan plan = ObjectUtil.getCopyPlan(B.class, A.class, true, false);
+        Assert.assertSame(plan, ObjectUtil.getCopyPlan(B.class, A.class, true, false));
+        Assert.assertNotSame(plan, ObjectUtil.getCopyPlan(B.class, A.class, true, true));
+        Assert.assertNull(plan.copy(new B(), new A(1, 2L, 3, 4L, "e", null), "e").getE());
+        Assert.assertEquals("e", plan.copy(new B(), new A(1, 2L, 3, 4L, "e", null)).getE());
+        Assert.assertNull(plan.mask("unknown"));
+
+        boolean[] mask = plan.mask("a", "e");
+        B b = plan.copy(new B(), new A(1, 2L, 3, 4L, "e", null), mask);
+        Assert.assertNull(b.getE());
+        Assert.assertEquals(2L, b.getB());
+        Assert.assertEquals(Integer.valueOf(1), plan.copy(new B(), new A(1, 2L, 3, 4L, "e", null)).getA());
+    }
+
+    @Test
+    public void testCopyInaccessible() {
+        Hidden hidden = new Hidden();
+        hidden.setE(" hidden ");
+        B b = ObjectUtil.copy(new B(), hidden, false, true);
+        Assert.assertEquals("hidden", b.getE());
+        Assert.assertEquals(" hidden ", ObjectUtil.copy(new Hidden(), hidden, false, false).getE());
+        Assert.assertNull(ObjectUtil.copy(new Hidden(), hidden, false, false, "e").getE());
+    }
+
+    @Getter
+    @Setter
+    private static class Hidden {
+
+        private String e;
+    }
+}
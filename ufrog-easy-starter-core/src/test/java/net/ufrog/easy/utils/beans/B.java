@@ -0,0 +1,32 @@
+package net.ufrog.easy.utils.beans;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Date;
+
+/**
+ * @author ultrafrog, ufrog.net@gmail.com
+ * @version 3.5.3, 2026-10-19
+ * @since 3.5.3
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+public class B {
+
+    private Integer a;
+
+    private long b;
+
+    private int c;
+
+    private Long d;
+
+    private String e;
+
+    private Date f;
+
+    private String g;
+}